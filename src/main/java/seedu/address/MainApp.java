@@ -2,13 +2,17 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -19,12 +23,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonConvertibleStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+import seedu.address.storage.SqliteAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -41,56 +48,205 @@ public class MainApp extends Application {
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
-    protected Logic logic;
-    protected Storage storage;
-    protected Model model;
+    // set on the thread that loads the data file
+    protected volatile Logic logic;
+    protected volatile Storage storage;
+    protected volatile Model model;
     protected Config config;
 
+    // completes once the data file has been loaded and the fields above set, on a thread of its own
+    private CompletableFuture<Logic> loadingLogic;
+    // completes once the config and preference files have been rewritten
+    private CompletableFuture<Void> rewritingSettings;
+
+    /**
+     * Starts up the app as a graph of stages, so that the slow ones run at the same time. <br>
+     * The config and preference files are read first, as everything else depends on them. Then the data file is
+     * read into the model on a background thread, while {@link #start} loads the FXML and builds the main window,
+     * which is filled in with the data once it is ready. Rewriting the config and preference files is not needed
+     * by any later stage, so it is left to another thread.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        StartupTimer timer = new StartupTimer();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        Path configFilePath = getConfigFilePath(appParameters.getConfigPath());
+        config = timer.time("read config", () -> initConfig(configFilePath));
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefs userPrefs = timer.time("read preferences", () -> initPrefs(userPrefsStorage));
+        // resolved before the copy below, so that the preference file is rewritten with a new .bin or .db path
+        initDataFilePath(userPrefs);
+        // a copy, as userPrefs is handed to the model on another thread while it is being written
+        UserPrefs prefsToRewrite = new UserPrefs(userPrefs);
+        rewritingSettings = CompletableFuture.runAsync(() -> timer.time("rewrite config and preferences", () -> {
+            rewriteConfig(config, configFilePath);
+            rewritePrefs(userPrefsStorage, prefsToRewrite);
+        }), MainApp::startStageThread);
 
-        model = initModelManager(storage, userPrefs);
+        loadingLogic = CompletableFuture.supplyAsync(() -> {
+            AddressBookStorage addressBookStorage = timer.time("open data file", () ->
+                    initAddressBookStorage(userPrefs));
+            storage = new StorageManager(addressBookStorage, userPrefsStorage);
+            ReadOnlyAddressBook initialData = timer.time("read data file", () -> readInitialData(storage));
+            model = timer.time("build model", () -> new ModelManager(initialData, userPrefs));
+            logic = new LogicManager(model, storage, Duration.ofMillis(config.getGroupCommitWindowMillis()));
+            return logic;
+        }, MainApp::startStageThread);
 
-        logic = new LogicManager(model, storage);
+        ui = new UiManager(loadingLogic, userPrefs.getGuiSettings(), timer);
+    }
 
-        ui = new UiManager(logic);
+    private static void startStageThread(Runnable stage) {
+        Thread thread = new Thread(stage, "startup-stage");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new AddressBook();
+        }
+    }
+
+    /**
+     * Points the address book file in {@code userPrefs} to the file of the format chosen there. <br>
+     * When the binary or SQLite format is chosen and the file in {@code userPrefs} is a JSON file, the data is kept
+     * in the file next to it with a {@code .bin} or {@code .db} extension instead, and when a JSON format is chosen
+     * again, the data is kept back in the JSON file.
+     */
+    private static void initDataFilePath(UserPrefs userPrefs) {
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            initImportedFilePath(userPrefs, ".bin");
+            break;
+        case SQLITE:
+            initImportedFilePath(userPrefs, ".db");
+            break;
+        default:
+            initExportedFilePath(userPrefs);
+            break;
+        }
+    }
+
+    /**
+     * Returns the storage for the address book file in {@code userPrefs}, in the format chosen there. <br>
+     * When the binary or SQLite format is chosen but there is no such file yet, the JSON file with the same name is
+     * imported into it.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookFormat()) {
+        case SEGMENTED:
+            // an existing JSON data file is read in full, and split into segments on the first save
+            return new SegmentedAddressBookStorage(filePath, config.isPrettyJson());
+        case BINARY:
+            return importJsonIfNewer(new BinaryAddressBookStorage(filePath));
+        case SQLITE:
+            return importJsonIfNewer(new SqliteAddressBookStorage(filePath));
+        default:
+            JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath, config.isPrettyJson());
+            exportNewestToJson(jsonStorage, new BinaryAddressBookStorage(withExtension(filePath, ".bin")),
+                    new SqliteAddressBookStorage(withExtension(filePath, ".db")));
+            return jsonStorage;
+        }
+    }
+
+    /**
+     * Points {@code userPrefs} to the file next to its address book file with {@code extension}, if that file is
+     * a JSON file.
+     */
+    private static void initImportedFilePath(UserPrefs userPrefs, String extension) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (filePath.equals(withExtension(filePath, ".json"))) {
+            userPrefs.setAddressBookFilePath(withExtension(filePath, extension));
+        }
+    }
+
+    /**
+     * Points {@code userPrefs} to the JSON file next to its address book file, if that file is a {@code .bin} or
+     * {@code .db} file.
+     */
+    private static void initExportedFilePath(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (filePath.equals(withExtension(filePath, ".bin")) || filePath.equals(withExtension(filePath, ".db"))) {
+            userPrefs.setAddressBookFilePath(withExtension(filePath, ".json"));
+        }
+    }
+
+    /**
+     * Imports the JSON file with the same name as the data file of {@code storage} into {@code storage}, if that
+     * JSON file was saved after the data file, as when the app switches back from the JSON format.
+     */
+    private static <T extends JsonConvertibleStorage> T importJsonIfNewer(T storage) {
+        Path jsonFilePath = withExtension(storage.getAddressBookFilePath(), ".json");
+        try {
+            if (isSavedLater(new JsonAddressBookStorage(jsonFilePath).getLastSavedTime(),
+                    storage.getLastSavedTime())) {
+                storage.importFromJson(jsonFilePath);
+                logger.info("Imported " + jsonFilePath + " into the data file " + storage.getAddressBookFilePath());
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to import " + jsonFilePath + " : " + StringUtil.getDetails(e));
         }
+        return storage;
+    }
+
+    /**
+     * Exports the data file of whichever of {@code storages} was saved last into the data file of
+     * {@code jsonStorage}, if it was saved after that JSON file, as when the app switches back to the JSON format.
+     */
+    private static void exportNewestToJson(JsonAddressBookStorage jsonStorage, JsonConvertibleStorage... storages) {
+        Path jsonFilePath = jsonStorage.getAddressBookFilePath();
+        try {
+            JsonConvertibleStorage newest = null;
+            Optional<FileTime> newestSavedTime = jsonStorage.getLastSavedTime();
+            for (JsonConvertibleStorage storage : storages) {
+                Optional<FileTime> savedTime = storage.getLastSavedTime();
+                if (isSavedLater(savedTime, newestSavedTime)) {
+                    newest = storage;
+                    newestSavedTime = savedTime;
+                }
+            }
+            if (newest != null) {
+                newest.exportToJson(jsonFilePath);
+                logger.info("Exported " + newest.getAddressBookFilePath() + " into the data file " + jsonFilePath);
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Failed to export into " + jsonFilePath + " : " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static boolean isSavedLater(Optional<FileTime> savedTime, Optional<FileTime> otherSavedTime) {
+        return savedTime.isPresent()
+                && (otherSavedTime.isEmpty() || savedTime.get().compareTo(otherSavedTime.get()) > 0);
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    private static Path withExtension(Path filePath, String extension) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + extension);
     }
 
     private void initLogging(Config config) {
@@ -98,42 +254,47 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * Returns {@code configFilePath}, or the default file path {@code Config#DEFAULT_CONFIG_FILE}
      * if {@code configFilePath} is null.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
+    private Path getConfigFilePath(Path configFilePath) {
         if (configFilePath != null) {
             logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+            return configFilePath;
         }
+        return Config.DEFAULT_CONFIG_FILE;
+    }
 
-        logger.info("Using config file : " + configFilePathUsed);
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}, or the default config properties
+     * if errors occur when reading from the file.
+     */
+    protected Config initConfig(Path configFilePath) {
+        logger.info("Using config file : " + configFilePath);
 
         try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePath);
             if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
+                logger.info("Creating new config file " + configFilePath);
             }
-            initializedConfig = configOptional.orElse(new Config());
+            return configOptional.orElse(new Config());
         } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+            logger.warning("Config file at " + configFilePath + " could not be loaded."
                     + " Using default config properties.");
-            initializedConfig = new Config();
+            return new Config();
         }
+    }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Writes {@code config} to the file at {@code configFilePath}, in case it was missing to begin with or there
+     * are new/unused fields.
+     */
+    private void rewriteConfig(Config config, Path configFilePath) {
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            ConfigUtil.saveConfig(config, configFilePath);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-        return initializedConfig;
     }
 
     /**
@@ -157,15 +318,19 @@ public class MainApp extends Application {
                     + " Using default preferences.");
             initializedPrefs = new UserPrefs();
         }
+        return initializedPrefs;
+    }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+    /**
+     * Writes {@code userPrefs} to {@code storage}'s user prefs file, in case it was missing to begin with or there
+     * are new/unused fields.
+     */
+    private void rewritePrefs(UserPrefsStorage storage, UserPrefs userPrefs) {
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
     }
 
     @Override
@@ -177,6 +342,17 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // the app may be closed while the settings are still being rewritten, or the data file is still being read
+        rewritingSettings.exceptionally(e -> null).join();
+        if (loadingLogic.exceptionally(e -> null).join() == null) {
+            logger.warning("The data file was not loaded, so there is nothing to save");
+            return;
+        }
+        try {
+            logic.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats the address book can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, with changes appended to a journal next to the file. */
+    JSON,
+    /** A compact, checksummed binary encoding that is faster to load and save. */
+    BINARY,
+    /** JSON, with the bookings split into one file per month, of which only recent months are loaded at startup. */
+    SEGMENTED,
+    /** An SQLite database, to which a save writes only the persons and bookings that changed. */
+    SQLITE
+}
@@ -17,6 +17,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    // how long a save may wait for later commands to join it; 0 writes as soon as possible
+    private long groupCommitWindowMillis = 0;
+    // whether the JSON data file is indented for reading, or written compactly to save space and time
+    private boolean prettyJson = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getGroupCommitWindowMillis() {
+        return groupCommitWindowMillis;
+    }
+
+    public void setGroupCommitWindowMillis(long groupCommitWindowMillis) {
+        this.groupCommitWindowMillis = groupCommitWindowMillis;
+    }
+
+    public boolean isPrettyJson() {
+        return prettyJson;
+    }
+
+    public void setPrettyJson(boolean prettyJson) {
+        this.prettyJson = prettyJson;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +67,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && groupCommitWindowMillis == otherConfig.groupCommitWindowMillis
+                && prettyJson == otherConfig.prettyJson;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, groupCommitWindowMillis, prettyJson);
     }
 
     @Override
@@ -60,6 +82,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("groupCommitWindowMillis", groupCommitWindowMillis)
+                .add("prettyJson", prettyJson)
                 .toString();
     }
 
@@ -0,0 +1,53 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Times the stages of the app's startup and logs how long each took, and how long after startup began it ended,
+ * so that cold-start time can be tracked. Stages may run on different threads at the same time.
+ */
+public class StartupTimer {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Runs the stage {@code stageName} and returns its result, logging how long it took.
+     */
+    public <T> T time(String stageName, Supplier<T> stage) {
+        requireNonNull(stageName);
+        requireNonNull(stage);
+        long stageStartNanos = System.nanoTime();
+        T result = stage.get();
+        long endNanos = System.nanoTime();
+        logger.info(String.format("Startup stage '%s' took %d ms, ending %d ms into startup", stageName,
+                toMillis(endNanos - stageStartNanos), toMillis(endNanos - startNanos)));
+        return result;
+    }
+
+    /**
+     * Runs the stage {@code stageName}, logging how long it took.
+     */
+    public void time(String stageName, Runnable stage) {
+        requireNonNull(stage);
+        time(stageName, () -> {
+            stage.run();
+            return null;
+        });
+    }
+
+    /**
+     * Logs how long startup took in total, up to now.
+     */
+    public void logFinished() {
+        logger.info("Startup finished in " + toMillis(System.nanoTime() - startNanos) + " ms");
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV data one record at a time, as described in RFC 4180: fields are separated by commas, and a field in
+ * double quotes may hold commas, line breaks and doubled double quotes. Lines may end with CRLF, LF or CR, and a
+ * byte order mark at the start and blank lines are skipped.
+ *
+ * Only the record being read is held in memory, so files of any size can be read.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int NONE = -2;
+
+    private final Reader in;
+    // the line of the next char to be read, and the line the last record read started on
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private int pushedBack = NONE;
+    private boolean isAtStart = true;
+
+    /**
+     * Constructs a {@code CsvReader} reading from {@code in}, which should be buffered.
+     */
+    public CsvReader(Reader in) {
+        requireNonNull(in);
+        this.in = in;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     *
+     * @throws IOException if the data cannot be read, or ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (isAtStart) {
+            isAtStart = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+        }
+        while (c == '\n' || c == '\r') {
+            c = readAfterLineBreak(c);
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+        while (true) {
+            if (isInQuotes) {
+                if (c == -1) {
+                    throw new IOException("Line " + recordLineNumber + ": a quoted field is not closed");
+                } else if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        isInQuotes = false;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\r') {
+                        int next = read();
+                        unread(next);
+                        if (next != '\n') {
+                            lineNumber++;
+                        }
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                isInQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c != -1) {
+                    unread(readAfterLineBreak(c));
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line number, starting from 1, of the line the last record read started on.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != NONE) {
+            c = pushedBack;
+            pushedBack = NONE;
+        } else {
+            c = in.read();
+        }
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+        if (c == '\n') {
+            lineNumber--;
+        }
+    }
+
+    /**
+     * Returns the char after the line break starting with {@code c}, treating CRLF as a single line break.
+     */
+    private int readAfterLineBreak(int c) throws IOException {
+        int next = read();
+        if (c == '\r') {
+            if (next == '\n') {
+                return read();
+            }
+            lineNumber++;
+        }
+        return next;
+    }
+}
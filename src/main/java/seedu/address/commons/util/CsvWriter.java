@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes CSV data one record at a time, in the format {@link CsvReader} reads. A field is put in double quotes
+ * only if it holds a comma, a double quote or a line break. Each record ends with LF.
+ */
+public class CsvWriter {
+
+    private final Writer out;
+
+    /**
+     * Constructs a {@code CsvWriter} writing to {@code out}, which should be buffered and is left open.
+     */
+    public CsvWriter(Writer out) {
+        requireNonNull(out);
+        this.out = out;
+    }
+
+    /**
+     * Writes a record of {@code fields}.
+     */
+    public void writeRecord(List<String> fields) throws IOException {
+        out.write(toRecord(fields));
+        out.write('\n');
+    }
+
+    /**
+     * Returns {@code fields} as a single CSV record, without a line break at the end.
+     */
+    public static String toRecord(List<String> fields) {
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i);
+            if (i > 0) {
+                record.append(',');
+            }
+            if (field.indexOf(',') == -1 && field.indexOf('"') == -1
+                    && field.indexOf('\n') == -1 && field.indexOf('\r') == -1) {
+                record.append(field);
+            } else {
+                record.append('"').append(field.replace("\"", "\"\"")).append('"');
+            }
+        }
+        return record.toString();
+    }
+}
@@ -1,10 +1,24 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Writes and reads files
@@ -12,11 +26,41 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String COMPRESSED_FILE_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the contents of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
 
+    /**
+     * Returns the latest time any of {@code files} was modified, or {@code Optional.empty()} if none of them exist.
+     *
+     * @throws IOException if the time a file was modified cannot be read.
+     */
+    public static Optional<FileTime> getLastModifiedTime(Path... files) throws IOException {
+        FileTime lastModifiedTime = null;
+        for (Path file : files) {
+            if (!Files.exists(file)) {
+                continue;
+            }
+            FileTime modifiedTime = Files.getLastModifiedTime(file);
+            if (lastModifiedTime == null || modifiedTime.compareTo(lastModifiedTime) > 0) {
+                lastModifiedTime = modifiedTime;
+            }
+        }
+        return Optional.ofNullable(lastModifiedTime);
+    }
+
     /**
      * Returns true if {@code path} can be converted into a {@code Path} via {@link Paths#get(String)},
      * otherwise returns false.
@@ -31,6 +75,38 @@ public class FileUtil {
         return true;
     }
 
+    /**
+     * Returns true if {@code file} is stored compressed, which is the case when its name ends with {@code .gz}.
+     */
+    public static boolean isCompressed(Path file) {
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns a buffered stream of the contents of {@code file}, decompressed on the fly if the file is
+     * {@link #isCompressed(Path) compressed}. Both gzip and zlib-wrapped deflate data are accepted.
+     * The caller must close the stream.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        if (!isCompressed(file)) {
+            return in;
+        }
+        try {
+            in.mark(2);
+            boolean isGzip = in.read() == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                    && in.read() == (GZIPInputStream.GZIP_MAGIC >> 8);
+            in.reset();
+            return new BufferedInputStream(isGzip ? new GZIPInputStream(in, BUFFER_SIZE)
+                    : new InflaterInputStream(in), BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
     /**
      * Creates a file if it does not exist along with its missing parent directories.
      * @throws IOException if the file or directory cannot be created.
@@ -73,11 +149,68 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Writes given string to a file, replacing it atomically.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @see #writeAtomically(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces {@code file} with what {@code writer} writes, so that after a crash the file holds either its old
+     * or its new contents in full, never a mix. The contents are written to a temporary file next to {@code file}
+     * and forced to disk, and the temporary file is then renamed over {@code file}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * This costs one fsync of the file and one of its directory, so it is meant for whole-file rewrites,
+     * not for saving after every small change.
+     *
+     * If {@code file} is {@link #isCompressed(Path) compressed}, what {@code writer} writes is gzipped on the fly.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            if (isCompressed(file)) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, BUFFER_SIZE);
+                writer.writeTo(compressed);
+                compressed.finish();
+            } else {
+                writer.writeTo(out);
+            }
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just renamed into it, to disk.
+     * Does nothing on platforms where directories cannot be opened, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is still atomic, only its durability across a power loss is not guaranteed
+        }
     }
 
 }
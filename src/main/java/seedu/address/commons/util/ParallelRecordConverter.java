@@ -0,0 +1,160 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts records read from storage or an imported file into model objects, and validates them, in chunks on the
+ * common {@code ForkJoinPool} while the caller keeps reading more records.
+ *
+ * The converted objects are passed to a sink on the caller's thread in the order the records were added, so the
+ * sink can check for duplicates and link objects sequentially. If several records are invalid, or the sink rejects
+ * an object, the error reported is the one a sequential conversion would have reported first.
+ *
+ * At most a few chunks are converted ahead of the sink, so memory use does not grow with the number of records.
+ *
+ * @param <A> the type of the records, such as {@code JsonAdaptedPerson}.
+ * @param <M> the type of the model objects.
+ */
+public class ParallelRecordConverter<A, M> {
+
+    public static final int CHUNK_SIZE = 256;
+
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+
+    private final RecordConversion<A, M> conversion;
+    private final RecordSink<M> sink;
+    private final Deque<ForkJoinTask<ChunkResult<M>>> pending = new ArrayDeque<>();
+    private List<A> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    public ParallelRecordConverter(RecordConversion<A, M> conversion, RecordSink<M> sink) {
+        requireAllNonNull(conversion, sink);
+        this.conversion = conversion;
+        this.sink = sink;
+    }
+
+    /**
+     * Returns the model objects converted from {@code records}, in the same order.
+     *
+     * @throws IllegalValueException if a record is invalid. The first invalid record in the list is reported.
+     */
+    public static <A, M> List<M> convertAll(List<A> records, RecordConversion<A, M> conversion)
+            throws IllegalValueException {
+        List<M> models = new ArrayList<>(records.size());
+        ParallelRecordConverter<A, M> converter = new ParallelRecordConverter<>(conversion, models::add);
+        for (A record : records) {
+            converter.add(record);
+        }
+        converter.finish();
+        return models;
+    }
+
+    /**
+     * Adds {@code record} to be converted. Objects converted from earlier records may be passed to the sink.
+     *
+     * @throws IllegalValueException if an earlier record was invalid or rejected by the sink.
+     */
+    public void add(A record) throws IllegalValueException {
+        chunk.add(record);
+        if (chunk.size() == CHUNK_SIZE) {
+            List<A> records = chunk;
+            chunk = new ArrayList<>(CHUNK_SIZE);
+            pending.add(ForkJoinPool.commonPool().submit(() -> convert(records)));
+            if (pending.size() > MAX_PENDING_CHUNKS) {
+                mergeOldest();
+            }
+        }
+    }
+
+    /**
+     * Converts the remaining records and passes every object not passed yet to the sink.
+     *
+     * @throws IllegalValueException if a record was invalid or rejected by the sink.
+     */
+    public void finish() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            List<A> records = chunk;
+            chunk = new ArrayList<>(CHUNK_SIZE);
+            if (pending.isEmpty()) {
+                // too few records to be worth handing to another thread
+                merge(convert(records));
+            } else {
+                pending.add(ForkJoinPool.commonPool().submit(() -> convert(records)));
+            }
+        }
+        while (!pending.isEmpty()) {
+            mergeOldest();
+        }
+    }
+
+    private ChunkResult<M> convert(List<A> records) {
+        List<M> models = new ArrayList<>(records.size());
+        try {
+            for (A record : records) {
+                models.add(conversion.convert(record));
+            }
+            return new ChunkResult<>(models, null);
+        } catch (IllegalValueException | RuntimeException e) {
+            // the records after an invalid one do not matter, as its error is reported before theirs would be
+            return new ChunkResult<>(models, e);
+        }
+    }
+
+    private void mergeOldest() throws IllegalValueException {
+        try {
+            merge(pending.poll().join());
+        } catch (IllegalValueException | RuntimeException e) {
+            pending.forEach(task -> task.cancel(false));
+            pending.clear();
+            throw e;
+        }
+    }
+
+    private void merge(ChunkResult<M> result) throws IllegalValueException {
+        for (M model : result.models) {
+            sink.accept(model);
+        }
+        if (result.error instanceof IllegalValueException) {
+            throw (IllegalValueException) result.error;
+        } else if (result.error != null) {
+            throw (RuntimeException) result.error;
+        }
+    }
+
+    /**
+     * Converts a record into a model object.
+     */
+    @FunctionalInterface
+    public interface RecordConversion<A, M> {
+        M convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * Receives the converted model objects in order.
+     */
+    @FunctionalInterface
+    public interface RecordSink<M> {
+        void accept(M model) throws IllegalValueException;
+    }
+
+    /**
+     * The objects converted from a chunk, up to the first invalid record, and the error of that record if any.
+     */
+    private static class ChunkResult<M> {
+        private final List<M> models;
+        private final Exception error;
+
+        ChunkResult(List<M> models, Exception error) {
+            this.models = models;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves address books to {@code Storage} on a background thread.
+ *
+ * Only the latest requested address book is kept. If several saves are requested while a write is in progress,
+ * a single write of the latest one follows, so a burst of commands costs one extra write rather than one per command.
+ *
+ * With a group commit window, the first save requested after a write is delayed by up to that window, and every
+ * save requested meanwhile joins the same write. Each write ends with the storage forcing the data to disk, so
+ * commands within one window share a single fsync instead of paying for one each. In exchange, a command is only
+ * durable once the window has passed and its write has completed: a crash may lose the commands of the last window,
+ * but never corrupts what was written before. {@link #flush()} writes at once, without waiting for the window.
+ *
+ * Each address book comes with the changes since the one requested before it, and the changes of the address books
+ * that a later one replaces are merged into its own, so that the storage is always told everything that changed
+ * since its last write. An address book whose write failed is kept, unless a later one was requested meanwhile,
+ * and is written again by the next save or flush, together with its changes, so that no change is lost to a single
+ * failed write.
+ */
+class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final Storage storage;
+    private final long groupCommitWindowMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PendingSave> pending = new AtomicReference<>();
+    // whether a write has been scheduled that has not yet taken the pending address book
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean();
+
+    private volatile Consumer<IOException> failureHandler = unused -> {};
+    private volatile IOException lastFailure;
+
+    BackgroundSaver(Storage storage) {
+        this(storage, Duration.ZERO);
+    }
+
+    /**
+     * Creates a saver that gathers the saves requested within {@code groupCommitWindow} into one write.
+     */
+    BackgroundSaver(Storage storage, Duration groupCommitWindow) {
+        requireNonNull(storage);
+        requireNonNull(groupCommitWindow);
+        if (groupCommitWindow.isNegative()) {
+            throw new IllegalArgumentException("Group commit window cannot be negative: " + groupCommitWindow);
+        }
+        this.storage = storage;
+        this.groupCommitWindowMillis = groupCommitWindow.toMillis();
+    }
+
+    /**
+     * Sets the handler called, on the saver's thread, with the exception of each failed write.
+     */
+    void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved in full, replacing any save that has not started yet.
+     * {@code addressBook} must not be modified afterwards.
+     */
+    void requestSave(ReadOnlyAddressBook addressBook) {
+        requestSave(addressBook, AddressBookChanges.all());
+    }
+
+    /**
+     * Schedules {@code addressBook}, which has had {@code changes} since the address book last requested, to be
+     * saved, replacing any save that has not started yet. {@code addressBook} must not be modified afterwards.
+     */
+    void requestSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireAllNonNull(addressBook, changes);
+        pending.accumulateAndGet(new PendingSave(addressBook, changes),
+                (earlier, later) -> earlier == null ? later : earlier.then(later));
+        if (isWriteScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::writePending, groupCommitWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     *
+     * @throws IOException if the last write failed, including the retry of an earlier failed write.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException failure = lastFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writePending() {
+        // cleared before taking the address book, so that a save requested after this point schedules a write
+        isWriteScheduled.set(false);
+        PendingSave save = pending.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(save.addressBook, save.changes);
+            if (pending.get() == null) {
+                lastFailure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            lastFailure = e;
+            // kept for the next save or flush to retry, unless a later address book has replaced it, in which case
+            // the later one is written with the changes of this one too
+            pending.accumulateAndGet(save, (later, failed) -> failed.then(later));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An address book waiting to be saved, with the changes since the storage's last write.
+     */
+    private static class PendingSave {
+
+        private final ReadOnlyAddressBook addressBook;
+        private final AddressBookChanges changes;
+
+        PendingSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+            this.addressBook = addressBook;
+            this.changes = changes;
+        }
+
+        /**
+         * Returns the save of {@code later}'s address book with the changes of both saves, or this save if
+         * {@code later} is null.
+         */
+        PendingSave then(PendingSave later) {
+            return later == null ? this : new PendingSave(later.addressBook, changes.merge(later.changes));
+        }
+    }
+}
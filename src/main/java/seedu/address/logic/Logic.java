@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -17,6 +20,7 @@ import seedu.address.model.person.Person;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * The address book is saved in the background afterwards; failures are passed to the save failure handler.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -31,6 +35,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns up to {@code limit} persons with a name word or phone number starting with {@code prefix}.
+     *
+     * @see seedu.address.model.Model#findPersonsByPrefix(String, int)
+     */
+    List<Person> findPersonsByPrefix(String prefix, int limit);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -51,4 +62,17 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler given the error message when a background save fails.
+     * The handler is called on the thread doing the save, not on the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until the address book has been saved with all changes made by the commands executed so far.
+     *
+     * @throws IOException if the last save failed.
+     */
+    void flushAddressBook() throws IOException;
 }
@@ -3,6 +3,9 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,9 +16,13 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.exceptions.BookingLoadingException;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -33,14 +40,27 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundSaver saver;
+    private AddressBookSnapshot lastSnapshot;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Duration.ZERO);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that gathers the saves of commands executed within
+     * {@code groupCommitWindow} of each other into one write.
+     *
+     * @see BackgroundSaver
+     */
+    public LogicManager(Model model, Storage storage, Duration groupCommitWindow) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saver = new BackgroundSaver(storage, groupCommitWindow);
     }
 
     @Override
@@ -49,24 +69,72 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } catch (BookingLoadingException e) {
+            // the model only loads archived bookings before changing anything, so it is unchanged here
+            throw new CommandException(e.getMessage(), e);
         }
 
+        // the snapshot is taken here so that the background write sees the model as it is after this command
+        requestSave();
+
         return commandResult;
     }
 
+    /**
+     * Requests a save of a snapshot of the model's address book, unless nothing changed since the last snapshot.
+     * When the model records its changes, only the persons and bookings that changed are copied again, and the
+     * storage is told which they were.
+     */
+    private void requestSave() {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (!(addressBook instanceof AddressBook)) {
+            saver.requestSave(new AddressBookSnapshot(addressBook));
+            return;
+        }
+
+        AddressBookChanges changes = ((AddressBook) addressBook).takeChanges();
+        if (lastSnapshot == null) {
+            // the storage may not have saved the model's address book before, so the first save is a full one
+            lastSnapshot = new AddressBookSnapshot(addressBook);
+            saver.requestSave(lastSnapshot);
+        } else if (!changes.isEmpty()) {
+            lastSnapshot = lastSnapshot.update(addressBook, changes);
+            saver.requestSave(lastSnapshot, changes);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saver.setFailureHandler(e -> handler.accept(getSaveFailureMessage(e)));
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        saver.flush();
+    }
+
+    /**
+     * Returns the message shown to the user when saving fails with {@code e}.
+     */
+    static String getSaveFailureMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public List<Person> findPersonsByPrefix(String prefix, int limit) {
+        return model.findPersonsByPrefix(prefix, limit);
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
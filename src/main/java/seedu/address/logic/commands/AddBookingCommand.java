@@ -7,12 +7,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
@@ -66,25 +67,24 @@ public class AddBookingCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        AddressBook addressBook = (AddressBook) model.getAddressBook();
-
-        Person bookingMaker = null;
-        for (Person person : addressBook.getPersonList()) {
-            if (person.getPhone().equals(phoneToAdd)) {
-                bookingMaker = person;
-            }
-        }
+        Person bookingMaker = model.getPersonByPhone(phoneToAdd);
         if (bookingMaker == null) {
             throw new CommandException(MESSAGE_INVALID_PERSON);
         }
 
         Booking toAdd = new Booking(bookingMaker, bookingDateToAdd, remarkToAdd, paxToAdd);
 
+        // load the booking's month before changing anything, so that a failed load leaves the person as it was
+        LocalDate bookingDay = bookingDateToAdd.toLocalDate();
+        model.loadBookingsBetween(bookingDay, bookingDay);
+
         // Add booking to bookingMaker's bookings set
         bookingMaker.addBookingID(toAdd.getBookingId());
 
-        // Add booking to AddressBook booking list for debugging
-        addressBook.addBooking(toAdd);
+        // keep the booking list filtered as it was
+        Predicate<Booking> currentBookingPredicate = model.getCurrentBookingPredicate();
+        model.addBooking(toAdd);
+        model.updateFilteredBookingList(currentBookingPredicate);
 
         // Update the filtered person list to show the new booking
         model.setPerson(bookingMaker, bookingMaker);
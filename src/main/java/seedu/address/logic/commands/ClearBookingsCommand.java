@@ -1,6 +1,5 @@
 package seedu.address.logic.commands;
 
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 
 /**
@@ -19,13 +18,13 @@ public class ClearBookingsCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
 
-        AddressBook addressBook = (AddressBook) model.getAddressBook();
+        model.loadAllBookings();
 
-        if (!addressBook.hasCancelledOrCompletedBookings()) {
+        if (!model.hasCancelledOrCompletedBookings()) {
             return new CommandResult(MESSAGE_NO_BOOKINGS_TO_CLEAR);
         }
 
-        addressBook.clearBookings();
+        model.clearBookings();
 
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
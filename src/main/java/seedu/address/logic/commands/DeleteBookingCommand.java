@@ -9,12 +9,13 @@ import java.util.List;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
 
 /**
  * Deletes a booking identified using its displayed index from the booking list.
+ * Only a booking shown in the booking list can be deleted, so a booking in a month that is not loaded yet has to be
+ * listed first, such as with {@code blist /all}.
  */
 public class DeleteBookingCommand extends Command {
 
@@ -38,7 +39,6 @@ public class DeleteBookingCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        AddressBook addressBook = (AddressBook) model.getAddressBook();
         int bookingId = targetIndex.getOneBased();
 
         List<Booking> lastShownList = model.getFilteredBookingList();
@@ -47,7 +47,7 @@ public class DeleteBookingCommand extends Command {
                 .findFirst()
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_BOOKING_NOT_FOUND, bookingId)));
 
-        addressBook.removeBooking(bookingToDelete);
+        model.deleteBooking(bookingToDelete);
         model.updateFilteredBookingList(PREDICATE_SHOW_ALL_BOOKINGS);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
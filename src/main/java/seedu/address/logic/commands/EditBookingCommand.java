@@ -9,7 +9,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -59,14 +58,13 @@ public class EditBookingCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Booking> bookingList = model.getAddressBook().getBookingList();
-        Booking bookingToEdit = bookingList.stream()
-                .filter(booking -> booking.getBookingId() == bookingId)
-                .findFirst()
-                .orElseThrow(() -> new CommandException(String.format(MESSAGE_BOOKING_NOT_FOUND, bookingId)));
+        Booking bookingToEdit = model.getBooking(bookingId);
+        if (bookingToEdit == null) {
+            throw new CommandException(String.format(MESSAGE_BOOKING_NOT_FOUND, bookingId));
+        }
 
-        // Use the instance method in Booking to update the fields
-        bookingToEdit.updateFields(fieldsToEdit);
+        // Edit through the address book so that the booking list's indexes stay consistent
+        model.updateBooking(bookingToEdit, fieldsToEdit);
         Person bookingMaker = bookingToEdit.getBookingPerson();
 
         model.updateFilteredBookingList(model.getCurrentBookingPredicate());
@@ -20,7 +20,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingIdSet;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -88,13 +88,6 @@ public class EditPersonCommand extends Command {
             throw new CommandException(MESSAGE_PHONE_NUMBER_EDIT_DISALLOWED);
         }
 
-        List<Booking> bookingList = model.getAddressBook().getBookingList().stream()
-                .filter(booking -> editedPerson.getBookingIDs().contains(booking.getBookingId()))
-                .toList();
-        for (Booking booking : bookingList) {
-            booking.setBookingPerson(editedPerson);
-        }
-
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredBookingList(Model.PREDICATE_SHOW_ALL_BOOKINGS);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
@@ -114,7 +107,7 @@ public class EditPersonCommand extends Command {
         Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         Boolean updatedIsMember = editPersonDescriptor.getIsMember().orElse(personToEdit.getMemberStatus());
-        Set<Integer> updatedBookings = personToEdit.getBookingIDs();
+        BookingIdSet updatedBookings = personToEdit.getBookingIDs();
 
         return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, updatedIsMember,
                 updatedBookings);
@@ -155,7 +148,7 @@ public class EditPersonCommand extends Command {
         private Address address;
         private Set<Tag> tags;
         private Boolean isMember;
-        private Set<Integer> bookingIDs;
+        private BookingIdSet bookingIDs;
 
         public EditPersonDescriptor() {}
 
@@ -241,17 +234,16 @@ public class EditPersonCommand extends Command {
          * Sets {@code bookingIDs} to this object's {@code bookingIDs}.
          * A defensive copy of {@code bookingIDs} is used internally.
          */
-        public void setBookingIDs(Set<Integer> bookingIDs) {
-            this.bookingIDs = (bookingIDs != null) ? new HashSet<>(bookingIDs) : null;
+        public void setBookingIDs(BookingIdSet bookingIDs) {
+            this.bookingIDs = (bookingIDs != null) ? new BookingIdSet(bookingIDs) : null;
         }
 
         /**
-         * Returns an unmodifiable tag set, which throws {@code UnsupportedOperationException}
-         * if modification is attempted.
+         * Returns a copy of the booking ID set.
          * Returns {@code Optional#empty()} if {@code bookingIDs} is null.
          */
-        public Optional<Set<Integer>> getBookingIDs() {
-            return (bookingIDs != null) ? Optional.of(Collections.unmodifiableSet(bookingIDs)) : Optional.empty();
+        public Optional<BookingIdSet> getBookingIDs() {
+            return (bookingIDs != null) ? Optional.of(new BookingIdSet(bookingIDs)) : Optional.empty();
         }
 
         @Override
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.ImportBookingsCommand.COLUMN_DATE;
+import static seedu.address.logic.commands.ImportBookingsCommand.COLUMN_PAX;
+import static seedu.address.logic.commands.ImportBookingsCommand.COLUMN_PHONE;
+import static seedu.address.logic.commands.ImportBookingsCommand.COLUMN_REMARK;
+import static seedu.address.logic.commands.ImportBookingsCommand.COLUMN_STATUS;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.booking.Booking;
+
+/**
+ * Exports every booking in the address book to a CSV file, which {@link ImportBookingsCommand} reads back.
+ * Bookings are identified by the phone number of the person making them, as booking IDs are given anew on import.
+ */
+public class ExportBookingsCommand extends ExportCommand<Booking> {
+
+    public static final String COMMAND_WORD = "bexport";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all bookings to a CSV file.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/bookings.csv";
+
+    private static final List<String> COLUMNS =
+            List.of(COLUMN_DATE, COLUMN_PHONE, COLUMN_PAX, COLUMN_REMARK, COLUMN_STATUS);
+
+    /**
+     * Creates an ExportBookingsCommand to export all bookings to the file at {@code filePath}.
+     */
+    public ExportBookingsCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getRecordName() {
+        return "bookings";
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected List<Booking> getRecords(Model model) {
+        model.loadAllBookings();
+        return new ArrayList<>(model.getAddressBook().getBookingList());
+    }
+
+    @Override
+    protected List<String> toFields(Booking booking) {
+        String remark = booking.getRemarks() == null ? "" : booking.getRemarks();
+        return List.of(ParserUtil.formatDateTime(booking.getBookingDateTime()),
+                booking.getBookingPerson().getPhone().value, String.valueOf(booking.getPax()), remark,
+                booking.getStatus().toString());
+    }
+}
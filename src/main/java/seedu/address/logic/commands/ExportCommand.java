@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Exports records of the address book to a CSV file with a header row, which the matching {@link ImportCommand}
+ * reads back. The records are written to the file as they are formatted, and the file is replaced only once all
+ * of them are written, so a failed export leaves an existing file as it was.
+ *
+ * @param <M> the type of the model objects exported.
+ */
+public abstract class ExportCommand<M> extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    protected final Path filePath;
+
+    /**
+     * Creates an {@code ExportCommand} to export to the file at {@code filePath}.
+     */
+    protected ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the plural name of the records exported, such as "persons".
+     */
+    protected abstract String getRecordName();
+
+    /**
+     * Returns the columns of the header row.
+     */
+    protected abstract List<String> getColumns();
+
+    /**
+     * Returns the records of {@code model} to export.
+     */
+    protected abstract List<M> getRecords(Model model);
+
+    /**
+     * Returns the fields of {@code record}, in the order of {@link #getColumns()}.
+     */
+    protected abstract List<String> toFields(M record);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<M> records = getRecords(model);
+
+        try {
+            FileUtil.writeAtomically(filePath, out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                CsvWriter csvWriter = new CsvWriter(writer);
+                csvWriter.writeRecord(getColumns());
+                for (M record : records) {
+                    csvWriter.writeRecord(toFields(record));
+                }
+                writer.flush();
+            });
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, records.size(), getRecordName(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // an export of persons is not the same as an export of bookings to the same file
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        ExportCommand<?> otherExportCommand = (ExportCommand<?>) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.ImportPersonsCommand.COLUMN_ADDRESS;
+import static seedu.address.logic.commands.ImportPersonsCommand.COLUMN_EMAIL;
+import static seedu.address.logic.commands.ImportPersonsCommand.COLUMN_MEMBER;
+import static seedu.address.logic.commands.ImportPersonsCommand.COLUMN_NAME;
+import static seedu.address.logic.commands.ImportPersonsCommand.COLUMN_PHONE;
+import static seedu.address.logic.commands.ImportPersonsCommand.COLUMN_TAGS;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports every person in the address book to a CSV file, which {@link ImportPersonsCommand} reads back.
+ */
+public class ExportPersonsCommand extends ExportCommand<Person> {
+
+    public static final String COMMAND_WORD = "pexport";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all persons to a CSV file.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/persons.csv";
+
+    private static final List<String> COLUMNS =
+            List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS, COLUMN_MEMBER, COLUMN_TAGS);
+
+    /**
+     * Creates an ExportPersonsCommand to export all persons to the file at {@code filePath}.
+     */
+    public ExportPersonsCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getRecordName() {
+        return "persons";
+    }
+
+    @Override
+    protected List<String> getColumns() {
+        return COLUMNS;
+    }
+
+    @Override
+    protected List<Person> getRecords(Model model) {
+        return new ArrayList<>(model.getAddressBook().getPersonList());
+    }
+
+    @Override
+    protected List<String> toFields(Person person) {
+        String tags = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(" "));
+        return List.of(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, String.valueOf(person.getMemberStatus()), tags);
+    }
+}
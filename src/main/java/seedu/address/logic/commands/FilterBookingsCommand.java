@@ -8,7 +8,6 @@ import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Status;
@@ -51,14 +50,19 @@ public class FilterBookingsCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        AddressBook addressBook = (AddressBook) model.getAddressBook();
+        // only months that can hold a match are loaded; every upcoming booking is loaded already
+        if (bookingDate != null) {
+            model.loadBookingsBetween(bookingDate.toLocalDate(), bookingDate.toLocalDate());
+        } else if (status != Status.UPCOMING) {
+            model.loadAllBookings();
+        }
 
         Predicate<Booking> predicate = booking -> true;
         String filterDescription = "";
 
         if (phoneNumber != null) {
             // Find person by phone number
-            Person person = addressBook.getPersonByPhone(phoneNumber);
+            Person person = model.getPersonByPhone(phoneNumber);
 
             if (person == null) {
                 throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, phoneNumber));
@@ -88,7 +92,16 @@ public class FilterBookingsCommand extends Command {
 
         model.updateFilteredBookingList(predicate);
 
-        if (model.getFilteredBookingList().isEmpty()) {
+        boolean hasNoMatches;
+        if (bookingDate != null) {
+            // only the bookings on the given date can match, so check those via the time index
+            hasNoMatches = model.getBookingsOn(bookingDate.toLocalDate()).stream()
+                    .noneMatch(predicate);
+        } else {
+            hasNoMatches = model.getFilteredBookingList().isEmpty();
+        }
+
+        if (hasNoMatches) {
             return new CommandResult(String.format(MESSAGE_NO_BOOKINGS, filterDescription));
         } else {
             return new CommandResult(String.format(MESSAGE_SUCCESS, filterDescription));
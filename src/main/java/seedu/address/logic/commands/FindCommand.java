@@ -1,35 +1,51 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Phone;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords,
+ * or who have any (or all) of the argument tags, or the person with the argument phone number.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String MATCH_ALL_KEYWORD = "all";
+    public static final String MATCH_ANY_KEYWORD = "any";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "the specified keywords (case-insensitive), or who have any (or all) of the specified tags, "
+            + "or the person with the specified phone number, "
+            + "and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "or: [" + MATCH_ANY_KEYWORD + "|" + MATCH_ALL_KEYWORD + "] t/TAG [t/MORE_TAGS]...\n"
+            + "or: " + PREFIX_PHONE + "PHONE\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + MATCH_ALL_KEYWORD + " t/vip t/regular\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "98765432";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final IndexedPersonPredicate predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(IndexedPersonPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // answer from the name or tag index rather than testing every person against the predicate
+        Set<Phone> matchingPhones = predicate.findMatches(model);
+        model.updateFilteredPersonList(person -> matchingPhones.contains(person.getPhone()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
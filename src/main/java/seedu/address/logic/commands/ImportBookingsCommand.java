@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Imports bookings from a CSV file, in the format {@link ExportBookingsCommand} writes.
+ * Each booking is made by the person with its phone number, who must already be in the address book, and is given
+ * a new booking ID. A row with the same phone number and date as an earlier row of the file is rejected.
+ */
+public class ImportBookingsCommand extends ImportCommand<ImportBookingsCommand.BookingRow, Booking> {
+
+    public static final String COMMAND_WORD = "bimport";
+
+    public static final String COLUMN_DATE = "date";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_PAX = "pax";
+    public static final String COLUMN_REMARK = "remark";
+    public static final String COLUMN_STATUS = "status";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports bookings from a CSV file.\n"
+            + "The file must start with a header row with the columns "
+            + String.join(",", COLUMN_DATE, COLUMN_PHONE, COLUMN_PAX)
+            + " and may also have the columns " + COLUMN_REMARK + " and " + COLUMN_STATUS + ".\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/bookings.csv";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(COLUMN_DATE, COLUMN_PHONE, COLUMN_PAX);
+    private static final List<String> OPTIONAL_COLUMNS = List.of(COLUMN_REMARK, COLUMN_STATUS);
+
+    /**
+     * Creates an ImportBookingsCommand to import the bookings in the file at {@code filePath}.
+     */
+    public ImportBookingsCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getRecordName() {
+        return "bookings";
+    }
+
+    @Override
+    protected List<String> getRequiredColumns() {
+        return REQUIRED_COLUMNS;
+    }
+
+    @Override
+    protected List<String> getOptionalColumns() {
+        return OPTIONAL_COLUMNS;
+    }
+
+    @Override
+    protected BookingRow parse(Row row) throws ParseException {
+        LocalDateTime dateTime = ParserUtil.parseDateTime(row.get(COLUMN_DATE));
+        Phone phone = ParserUtil.parsePhone(row.get(COLUMN_PHONE));
+        int pax = ParserUtil.parsePax(row.get(COLUMN_PAX).trim());
+        String status = row.get(COLUMN_STATUS).trim();
+        return new BookingRow(dateTime, phone, pax, row.get(COLUMN_REMARK).trim(),
+                status.isEmpty() ? Status.UPCOMING : ParserUtil.parseStatus(status));
+    }
+
+    @Override
+    protected Booking resolve(BookingRow row, Model model) throws CommandException {
+        Person bookingMaker = model.getPersonByPhone(row.phone);
+        if (bookingMaker == null) {
+            throw new CommandException(AddBookingCommand.MESSAGE_INVALID_PERSON);
+        }
+
+        // bookings take their IDs in file order, so they are only created once their rows are accepted
+        Booking booking = new Booking(bookingMaker, row.dateTime, row.remark, row.pax);
+        booking.setStatus(row.status);
+        return booking;
+    }
+
+    @Override
+    protected Object getKey(BookingRow row) {
+        return List.of(row.phone, row.dateTime);
+    }
+
+    @Override
+    protected void insert(List<Booking> batch, Model model) {
+        model.addBookings(batch);
+    }
+
+    /**
+     * The fields of a row of the file, before the person making the booking is looked up.
+     */
+    static class BookingRow {
+        private final LocalDateTime dateTime;
+        private final Phone phone;
+        private final int pax;
+        private final String remark;
+        private final Status status;
+
+        BookingRow(LocalDateTime dateTime, Phone phone, int pax, String remark, Status status) {
+            this.dateTime = dateTime;
+            this.phone = phone;
+            this.pax = pax;
+            this.remark = remark;
+            this.status = status;
+        }
+    }
+}
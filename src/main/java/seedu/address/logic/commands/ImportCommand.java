@@ -0,0 +1,366 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ParallelRecordConverter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.booking.exceptions.BookingLoadingException;
+
+/**
+ * Imports the rows of a CSV file with a header row into the address book.
+ *
+ * The file is streamed through a bounded pipeline: rows are read one at a time, parsed and validated in parallel
+ * by the same rules as the commands that add a single person or booking, then checked against the address book in
+ * file order and inserted a batch at a time. Each batch is a single change to the model, and the whole import is
+ * saved once after the command, so a large file costs neither a save nor a list update per row.
+ *
+ * Rows that cannot be imported are skipped and written, with the reason, to a report next to the file, which also
+ * records the progress of the import.
+ *
+ * @param <T> the type of a parsed row.
+ * @param <M> the type of the model objects inserted.
+ */
+public abstract class ImportCommand<T, M> extends Command {
+
+    public static final String REPORT_FILE_SUFFIX = ".import.log";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$s from %3$s.";
+    public static final String MESSAGE_REJECTED_ROWS = "\n%1$d rows were not imported, see %2$s for the reasons.";
+    public static final String MESSAGE_STOPPED = "Stopped importing %1$s at line %2$d: %3$s\n"
+            + "Imported %4$d %5$s before that, see %6$s for details.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_NO_HEADER = "The file %1$s is empty, it should start with a header row";
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row of %1$s is missing the columns: %2$s\n"
+            + "Expected columns: %3$s";
+    public static final String MESSAGE_DUPLICATE_ROW = "This row repeats an earlier row of the file";
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    protected final Path filePath;
+
+    /**
+     * Creates an {@code ImportCommand} to import the rows of the file at {@code filePath}.
+     */
+    protected ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the report written when importing the file at {@code filePath}.
+     */
+    public static Path getReportPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + REPORT_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the plural name of the records imported, such as "persons".
+     */
+    protected abstract String getRecordName();
+
+    /**
+     * Returns the columns every file must have, in lower case.
+     */
+    protected abstract List<String> getRequiredColumns();
+
+    /**
+     * Returns the columns a file may leave out, in lower case.
+     */
+    protected abstract List<String> getOptionalColumns();
+
+    /**
+     * Returns {@code row} parsed and validated on its own. This is called on several threads at once.
+     *
+     * @throws ParseException if a field of the row is invalid.
+     */
+    protected abstract T parse(Row row) throws ParseException;
+
+    /**
+     * Returns the model object to insert for {@code parsed}, checked against {@code model}, which holds every
+     * earlier row of the file except those in the batch being gathered.
+     *
+     * @throws CommandException if the row cannot be added to the address book.
+     */
+    protected abstract M resolve(T parsed, Model model) throws CommandException;
+
+    /**
+     * Returns what identifies {@code parsed}, so that a row repeating an earlier row of the file is rejected
+     * before it is resolved.
+     */
+    protected abstract Object getKey(T parsed);
+
+    /**
+     * Inserts {@code batch} into {@code model}.
+     */
+    protected abstract void insert(List<M> batch, Model model);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path reportPath = getReportPath(filePath);
+
+        try (CsvReader reader = new CsvReader(
+                new InputStreamReader(FileUtil.newInputStream(filePath), StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(reader);
+            try (BufferedWriter report = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8)) {
+                return importRows(reader, columns, new ImportRun(model, report), model, reportPath);
+            }
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+        }
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException, CommandException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new CommandException(String.format(MESSAGE_NO_HEADER, filePath));
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missingColumns = getRequiredColumns().stream()
+                .filter(column -> !columns.containsKey(column))
+                .collect(Collectors.toList());
+        if (!missingColumns.isEmpty()) {
+            List<String> expectedColumns = new ArrayList<>(getRequiredColumns());
+            expectedColumns.addAll(getOptionalColumns());
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, filePath,
+                    String.join(", ", missingColumns), String.join(",", expectedColumns)));
+        }
+        return columns;
+    }
+
+    private CommandResult importRows(CsvReader reader, Map<String, Integer> columns, ImportRun run, Model model,
+            Path reportPath) throws IOException {
+        run.report("Importing " + getRecordName() + " from " + filePath + " at " + LocalDateTime.now());
+        ParallelRecordConverter<Row, ParsedRow> converter = new ParallelRecordConverter<>(this::parseRow, run::accept);
+        try {
+            List<String> fields;
+            while ((fields = reader.readRecord()) != null) {
+                converter.add(new Row(reader.getRecordLineNumber(), fields, columns));
+            }
+            converter.finish();
+            run.flush();
+        } catch (IOException | UncheckedIOException | BookingLoadingException e) {
+            // the rows imported so far are kept and saved, as the progress lines of the report tell which they are
+            try {
+                run.insertBatch();
+            } catch (BookingLoadingException ble) {
+                run.batch.clear();
+            }
+            String reason = e instanceof UncheckedIOException ? e.getCause().getMessage() : e.getMessage();
+            run.reportQuietly("Stopped at line " + run.lastLineNumber + " after importing " + run.importedCount
+                    + " rows: " + reason);
+            logger.warning("Stopped importing " + filePath + " at line " + run.lastLineNumber + ": " + reason);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(String.format(MESSAGE_STOPPED, filePath, run.lastLineNumber, reason,
+                    run.importedCount, getRecordName(), reportPath));
+        } catch (IllegalValueException e) {
+            // rows are parsed into ParsedRow results and rejected by the sink without throwing
+            throw new IllegalStateException(e);
+        }
+
+        run.report("Imported " + run.importedCount + " of " + (run.importedCount + run.rejectedCount)
+                + " rows, rejected " + run.rejectedCount);
+        logger.info("Imported " + run.importedCount + " " + getRecordName() + " from " + filePath + ", rejected "
+                + run.rejectedCount + " rows");
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        String message = String.format(MESSAGE_SUCCESS, run.importedCount, getRecordName(), filePath);
+        if (run.rejectedCount > 0) {
+            message += String.format(MESSAGE_REJECTED_ROWS, run.rejectedCount, reportPath);
+        }
+        return new CommandResult(message);
+    }
+
+    private ParsedRow parseRow(Row row) {
+        try {
+            return new ParsedRow(row, parse(row), null);
+        } catch (ParseException e) {
+            return new ParsedRow(row, null, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // an import of persons is not the same as an import of bookings from the same file
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        ImportCommand<?, ?> otherImportCommand = (ImportCommand<?, ?>) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A row of the file, whose fields are looked up by the name of their column.
+     */
+    protected static class Row {
+        private final int lineNumber;
+        private final List<String> fields;
+        private final Map<String, Integer> columns;
+
+        Row(int lineNumber, List<String> fields, Map<String, Integer> columns) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+            this.columns = columns;
+        }
+
+        /**
+         * Returns the field in {@code column}, or an empty string if the file or the row has no such column.
+         */
+        public String get(String column) {
+            Integer index = columns.get(column);
+            return index == null || index >= fields.size() ? "" : fields.get(index);
+        }
+    }
+
+    /**
+     * A row parsed into {@code parsed}, or the reason it could not be parsed.
+     */
+    private class ParsedRow {
+        private final Row row;
+        private final T parsed;
+        private final String error;
+
+        ParsedRow(Row row, T parsed, String error) {
+            this.row = row;
+            this.parsed = parsed;
+            this.error = error;
+        }
+    }
+
+    /**
+     * The state of a single import: the batch being gathered, the counts so far, and the report.
+     */
+    private class ImportRun {
+        private final Model model;
+        private final BufferedWriter report;
+        private final List<M> batch = new ArrayList<>();
+        // the keys of every row accepted so far
+        private final Set<Object> keys = new HashSet<>();
+        private int importedCount;
+        private int rejectedCount;
+        private int lastLineNumber;
+
+        ImportRun(Model model, BufferedWriter report) {
+            this.model = model;
+            this.report = report;
+        }
+
+        /**
+         * Adds the row to the batch, or writes it to the report with the reason it cannot be imported.
+         */
+        void accept(ParsedRow parsedRow) {
+            lastLineNumber = parsedRow.row.lineNumber;
+            String error = parsedRow.error;
+            if (error == null) {
+                Object key = getKey(parsedRow.parsed);
+                try {
+                    if (keys.contains(key)) {
+                        error = MESSAGE_DUPLICATE_ROW;
+                    } else {
+                        batch.add(resolve(parsedRow.parsed, model));
+                        keys.add(key);
+                    }
+                } catch (CommandException e) {
+                    error = e.getMessage();
+                }
+            }
+
+            try {
+                if (error != null) {
+                    rejectedCount++;
+                    report("Line " + parsedRow.row.lineNumber + ": " + error.replace('\n', ' '));
+                    report("    " + CsvWriter.toRecord(parsedRow.row.fields));
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Inserts the batch and records the progress in the report.
+         */
+        void flush() throws IOException {
+            if (batch.isEmpty()) {
+                return;
+            }
+            insertBatch();
+            report("Line " + lastLineNumber + ": imported " + importedCount + " " + getRecordName() + " so far");
+            logger.fine("Imported " + importedCount + " " + getRecordName() + " from " + filePath + " so far");
+        }
+
+        void insertBatch() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            insert(new ArrayList<>(batch), model);
+            importedCount += batch.size();
+            batch.clear();
+        }
+
+        void report(String line) throws IOException {
+            report.write(line);
+            report.newLine();
+        }
+
+        void reportQuietly(String line) {
+            try {
+                report(line);
+            } catch (IOException e) {
+                // the report may be what failed, and the result of the command says the same
+                logger.warning("Could not write to the report of importing " + filePath + ": " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Imports persons from a CSV file, in the format {@link ExportPersonsCommand} writes.
+ */
+public class ImportPersonsCommand extends ImportCommand<Person, Person> {
+
+    public static final String COMMAND_WORD = "pimport";
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_MEMBER = "member";
+    public static final String COLUMN_TAGS = "tags";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports persons from a CSV file.\n"
+            + "The file must start with a header row with the columns "
+            + String.join(",", COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS)
+            + " and may also have the columns " + COLUMN_MEMBER + " and " + COLUMN_TAGS
+            + " (separated by spaces).\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/persons.csv";
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS);
+    private static final List<String> OPTIONAL_COLUMNS = List.of(COLUMN_MEMBER, COLUMN_TAGS);
+
+    /**
+     * Creates an ImportPersonsCommand to import the persons in the file at {@code filePath}.
+     */
+    public ImportPersonsCommand(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected String getRecordName() {
+        return "persons";
+    }
+
+    @Override
+    protected List<String> getRequiredColumns() {
+        return REQUIRED_COLUMNS;
+    }
+
+    @Override
+    protected List<String> getOptionalColumns() {
+        return OPTIONAL_COLUMNS;
+    }
+
+    @Override
+    protected Person parse(Row row) throws ParseException {
+        Name name = ParserUtil.parseName(row.get(COLUMN_NAME));
+        Phone phone = ParserUtil.parsePhone(row.get(COLUMN_PHONE));
+        Email email = ParserUtil.parseEmail(row.get(COLUMN_EMAIL));
+        Address address = ParserUtil.parseAddress(row.get(COLUMN_ADDRESS));
+        String member = row.get(COLUMN_MEMBER).trim();
+        boolean isMember = ParserUtil.parseIsMember(member.isEmpty() ? "false" : member);
+        String tags = row.get(COLUMN_TAGS).trim();
+        Set<Tag> tagSet = ParserUtil.parseTags(tags.isEmpty() ? List.of() : Arrays.asList(tags.split("\\s+")));
+        return new Person(name, phone, email, address, tagSet, isMember);
+    }
+
+    @Override
+    protected Person resolve(Person person, Model model) throws CommandException {
+        if (model.hasPerson(person)) {
+            throw new CommandException(AddPersonCommand.MESSAGE_DUPLICATE_PERSON);
+        }
+        return person;
+    }
+
+    @Override
+    protected Object getKey(Person person) {
+        return person.getPhone();
+    }
+
+    @Override
+    protected void insert(List<Person> batch, Model model) {
+        model.addPersons(batch);
+    }
+}
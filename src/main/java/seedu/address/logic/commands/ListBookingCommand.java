@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import seedu.address.model.Model;
+import seedu.address.model.booking.Status;
 
 
 /**
@@ -29,14 +30,18 @@ public class ListBookingCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) {
-
         if (isDisplayAll) {
+            model.loadAllBookings();
             model.updateFilteredBookingList(Model.PREDICATE_SHOW_ALL_BOOKINGS);
         } else {
             model.updateFilteredBookingList(Model.PREDICATE_SHOW_UPCOMING_BOOKINGS);
         }
 
-        if (model.getFilteredBookingList().isEmpty()) {
+        // check emptiness against the booking list's status partitions instead of the filtered view
+        boolean hasNoBookings = isDisplayAll
+                ? model.getAddressBook().getBookingList().isEmpty()
+                : model.getBookingCount(Status.UPCOMING) == 0;
+        if (hasNoBookings) {
             return new CommandResult(isDisplayAll ? MESSAGE_NO_BOOKINGS : MESSAGE_NO_PENDING_BOOKINGS);
         } else {
             return new CommandResult(isDisplayAll ? MESSAGE_SUCCESS_ALL : MESSAGE_SUCCESS);
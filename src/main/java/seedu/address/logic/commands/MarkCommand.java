@@ -9,7 +9,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Status;
@@ -50,13 +49,11 @@ public class MarkCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        AddressBook addressBook = (AddressBook) model.getAddressBook();
-
-        if (!addressBook.hasBooking(bookingId)) {
+        if (model.getBooking(bookingId) == null) {
             throw new CommandException(String.format(MESSAGE_INVALID_ID, bookingId));
         }
 
-        addressBook.setBookingStatus(bookingId, newStatus);
+        model.setBookingStatus(bookingId, newStatus);
 
         Predicate<Booking> currentBookingPredicate = model.getCurrentBookingPredicate();
         // update to all predicate, then current predicate again, to force an update
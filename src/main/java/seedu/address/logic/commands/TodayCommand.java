@@ -3,14 +3,17 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 
 /**
@@ -38,28 +41,25 @@ public class TodayCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-
         Predicate<Booking> bookingPredicate = booking -> true;
         bookingPredicate = bookingPredicate.and(
                 booking -> booking.getBookingDateTime().toLocalDate().equals(dateOfInterest));
 
         model.updateFilteredBookingList(bookingPredicate);
 
-        if (model.getFilteredBookingList().isEmpty()) {
+        // read the day's bookings from the time index instead of scanning the filtered list
+        List<Booking> bookingsOfTheDay = model.getBookingsOn(dateOfInterest);
+        if (bookingsOfTheDay.isEmpty()) {
             // do not touch persons list if there are no bookings
             return new CommandResult(MESSAGE_NO_BOOKING);
         }
 
-        ObservableList<Booking> filteredBookingList = model.getFilteredBookingList();
+        Set<Phone> bookingPhones = new HashSet<>();
+        for (Booking booking : bookingsOfTheDay) {
+            bookingPhones.add(booking.getBookingPerson().getPhone());
+        }
         Predicate<Person> personPredicate = person -> true;
-        personPredicate = personPredicate.and(person -> {
-            for (Booking booking : filteredBookingList) {
-                if (booking.getBookingPerson().equals(person)) {
-                    return true;
-                }
-            }
-            return false;
-        });
+        personPredicate = personPredicate.and(person -> bookingPhones.contains(person.getPhone()));
         model.updateFilteredPersonList(personPredicate);
 
         // for each booking status upcoming completed cancelled, count the number of bookings
@@ -67,7 +67,7 @@ public class TodayCommand extends Command {
         int upcomingCount = 0;
         int completedCount = 0;
         int cancelledCount = 0;
-        for (Booking booking : filteredBookingList) {
+        for (Booking booking : bookingsOfTheDay) {
             switch (booking.getStatus()) {
             case UPCOMING:
                 upcomingCount++;
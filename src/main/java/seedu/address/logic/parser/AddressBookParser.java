@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.nio.file.Path;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -18,9 +19,13 @@ import seedu.address.logic.commands.DeletePersonCommand;
 import seedu.address.logic.commands.EditBookingCommand;
 import seedu.address.logic.commands.EditPersonCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportBookingsCommand;
+import seedu.address.logic.commands.ExportPersonsCommand;
 import seedu.address.logic.commands.FilterBookingsCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportBookingsCommand;
+import seedu.address.logic.commands.ImportPersonsCommand;
 import seedu.address.logic.commands.ListBookingCommand;
 import seedu.address.logic.commands.ListPersonsCommand;
 import seedu.address.logic.commands.MarkCommand;
@@ -103,6 +108,18 @@ public class AddressBookParser {
         case TodayCommand.COMMAND_WORD:
             return new TodayCommandParser().parse(arguments);
 
+        case ImportPersonsCommand.COMMAND_WORD:
+            return new ImportPersonsCommand(parseFilePath(arguments, ImportPersonsCommand.MESSAGE_USAGE));
+
+        case ImportBookingsCommand.COMMAND_WORD:
+            return new ImportBookingsCommand(parseFilePath(arguments, ImportBookingsCommand.MESSAGE_USAGE));
+
+        case ExportPersonsCommand.COMMAND_WORD:
+            return new ExportPersonsCommand(parseFilePath(arguments, ExportPersonsCommand.MESSAGE_USAGE));
+
+        case ExportBookingsCommand.COMMAND_WORD:
+            return new ExportBookingsCommand(parseFilePath(arguments, ExportBookingsCommand.MESSAGE_USAGE));
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -115,4 +132,17 @@ public class AddressBookParser {
         }
     }
 
+    /**
+     * Parses {@code arguments} into the path of the file an import or export command reads or writes.
+     *
+     * @throws ParseException if {@code arguments} is not a valid path, with {@code usage} in the message.
+     */
+    private static Path parseFilePath(String arguments, String usage) throws ParseException {
+        try {
+            return ParserUtil.parseFilePath(arguments);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage), pe);
+        }
+    }
+
 }
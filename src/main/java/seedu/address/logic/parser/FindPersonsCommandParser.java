@@ -1,12 +1,16 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonHasPhonePredicate;
+import seedu.address.model.person.PersonHasTagsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -25,9 +29,47 @@ public class FindPersonsCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_PHONE);
+        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
+            return parsePhoneSearch(argMultimap);
+        }
+        if (!argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
+            return parseTagSearch(argMultimap);
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Parses a search by phone number, which takes neither a preamble nor tags.
+     */
+    private FindCommand parsePhoneSearch(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty() || !argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PHONE);
+        return new FindCommand(new PersonHasPhonePredicate(
+                ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get())));
+    }
+
+    /**
+     * Parses a search by tags, where the preamble is empty or one of {@code FindCommand#MATCH_ANY_KEYWORD}
+     * and {@code FindCommand#MATCH_ALL_KEYWORD}.
+     */
+    private FindCommand parseTagSearch(ArgumentMultimap argMultimap) throws ParseException {
+        String preamble = argMultimap.getPreamble().toLowerCase();
+        if (!preamble.isEmpty() && !preamble.equals(FindCommand.MATCH_ANY_KEYWORD)
+                && !preamble.equals(FindCommand.MATCH_ALL_KEYWORD)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        boolean isMatchAll = preamble.equals(FindCommand.MATCH_ALL_KEYWORD);
+        return new FindCommand(new PersonHasTagsPredicate(
+                ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG)), isMatchAll));
+    }
+
 }
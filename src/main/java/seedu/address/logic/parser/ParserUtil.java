@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -11,8 +13,11 @@ import java.util.Locale;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -25,6 +30,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not valid.";
 
     // Example: 2020-03-03 2:00 PM
     private static final String DATE_TIME_FORMAT = "yyyy-MM-dd h:mm a";
@@ -32,8 +38,6 @@ public class ParserUtil {
     private static final DateTimeFormatter DATE_ONLY_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
 
-    private static final int MAX_PERSONS = 500;
-
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -119,7 +123,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -160,6 +164,14 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Returns {@code dateTime} in the format {@link #parseDateTime(String)} parses.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return dateTime.format(FORMATTER);
+    }
+
     /**
      * Parses a {@code String dateStr} into a {@code LocalDateTime} with time set to midnight (00:00).
      * Format expected: yyyy-MM-dd (e.g., 2023-12-25)
@@ -188,14 +200,14 @@ public class ParserUtil {
     public static int parsePax(String pax) throws ParseException {
         requireNonNull(pax);
         int parsedPax;
-        String errorMessage = "Pax should be a positive integer between 1 and " + MAX_PERSONS
-                + ". Please enter a valid number.";
+        String errorMessage = "Pax should be a positive integer between " + Booking.MIN_PAX + " and "
+                + Booking.MAX_PAX + ". Please enter a valid number.";
         try {
             parsedPax = Integer.parseInt(pax);
         } catch (NumberFormatException e) {
             throw new ParseException(errorMessage);
         }
-        if (parsedPax < 1 || parsedPax > MAX_PERSONS) {
+        if (!Booking.isValidPax(parsedPax)) {
             throw new ParseException(errorMessage);
         }
         return parsedPax;
@@ -216,4 +228,34 @@ public class ParserUtil {
             throw new ParseException("isMember should be either 1/0, yes/no, true/false.");
         }
     }
+
+    /**
+     * Parses a {@code String status} into a {@code Status}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code status} is invalid.
+     */
+    public static Status parseStatus(String status) throws ParseException {
+        requireNonNull(status);
+        String trimmedStatus = status.trim();
+        if (!Status.isValidStatus(trimmedStatus)) {
+            throw new ParseException(Status.MESSAGE_CONSTRAINTS);
+        }
+        return Status.fromString(trimmedStatus);
+    }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or invalid.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
 }
@@ -1,18 +1,35 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.model.booking.BookingIdSet;
 import seedu.address.model.booking.Status;
 import seedu.address.model.booking.UniqueBookingList;
+import seedu.address.model.booking.exceptions.BookingNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -23,6 +40,15 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueBookingList bookings;
 
+    // what changed since the last call to takeChanges(), so that storage only needs to re-save those entities
+    private final Set<Phone> changedPersons = new HashSet<>();
+    private final Set<Integer> changedBookings = new HashSet<>();
+    private boolean isAllChanged = true;
+
+    // bookings of these months are still in the archive, and are loaded when a command needs them
+    private BookingArchive bookingArchive;
+    private final NavigableSet<YearMonth> unloadedMonths = new TreeSet<>();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -53,6 +79,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        isAllChanged = true;
     }
 
     /**
@@ -69,6 +96,7 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .orElse(null);
         int maxId = maxIdBooking == null ? 0 : maxIdBooking.getBookingId();
         Booking.setBookingIdCounter(maxId + 1); // Increment by 1 to avoid clash
+        isAllChanged = true;
     }
 
     /**
@@ -79,6 +107,95 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         setPersons(newData.getPersonList());
         setBookings(newData.getBookingList());
+        if (newData instanceof AddressBook) {
+            AddressBook source = (AddressBook) newData;
+            setBookingArchive(source.bookingArchive, source.unloadedMonths);
+        } else {
+            bookingArchive = null;
+            unloadedMonths.clear();
+        }
+    }
+
+    /**
+     * Sets the archive holding the bookings of {@code unloadedMonths}, which are not in the booking list yet.
+     * Persons may hold the IDs of those bookings; each booking is linked to its person when its month is loaded.
+     */
+    public void setBookingArchive(BookingArchive bookingArchive, Collection<YearMonth> unloadedMonths) {
+        requireNonNull(unloadedMonths);
+        this.bookingArchive = bookingArchive;
+        this.unloadedMonths.clear();
+        if (bookingArchive == null) {
+            return;
+        }
+        this.unloadedMonths.addAll(unloadedMonths);
+
+        // new bookings must not reuse the IDs of bookings that are not loaded
+        int maxId = bookingArchive.getMaxBookingId();
+        if (maxId >= Booking.getBookingIdCounter()) {
+            Booking.setBookingIdCounter(maxId + 1);
+        }
+    }
+
+    //// booking archive operations
+
+    /**
+     * Loads the bookings of the months from {@code start} to {@code end} inclusive that are still in the archive.
+     *
+     * @throws seedu.address.model.booking.exceptions.BookingLoadingException if the archive could not be read,
+     *     in which case no bookings are loaded.
+     */
+    public void loadBookingsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        if (start.isAfter(end)) {
+            return;
+        }
+        loadMonths(new ArrayList<>(unloadedMonths.subSet(YearMonth.from(start), true, YearMonth.from(end), true)));
+    }
+
+    /**
+     * Loads all bookings still in the archive.
+     *
+     * @throws seedu.address.model.booking.exceptions.BookingLoadingException if the archive could not be read,
+     *     in which case no bookings are loaded.
+     */
+    public void loadAllBookings() {
+        loadMonths(new ArrayList<>(unloadedMonths));
+    }
+
+    private void loadMonths(List<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+
+        // read every month before changing anything, so that a failed read leaves the booking list as it was
+        Map<Integer, Booking> loaded = new HashMap<>();
+        for (YearMonth month : months) {
+            for (Booking booking : bookingArchive.loadMonth(month)) {
+                loaded.put(booking.getBookingId(), booking);
+            }
+        }
+
+        // as when reading from storage, bookings that no person holds are dropped, and once every month is loaded,
+        // so are the IDs that persons hold of bookings that were not saved
+        boolean isLastLoad = months.size() == unloadedMonths.size();
+        for (Person person : persons) {
+            BookingIdSet bookingIds = person.getBookingIDs();
+            for (int i = 0; i < bookingIds.size(); i++) {
+                int bookingId = bookingIds.get(i);
+                Booking booking = loaded.remove(bookingId);
+                if (booking != null) {
+                    booking.setBookingPerson(person);
+                    bookings.add(booking);
+                    // unchanged in storage, but new to this address book, so the next snapshot must copy it
+                    changedBookings.add(bookingId);
+                } else if (isLastLoad && !bookings.contains(bookingId)) {
+                    person.removeBookingID(bookingId);
+                    changedPersons.add(person.getPhone());
+                    i--;
+                }
+            }
+        }
+        unloadedMonths.removeAll(months);
     }
 
     //// person-level operations
@@ -88,14 +205,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
+        return persons.contains(person);
+    }
 
-        for (Person p : persons) {
-            if (p.getPhone().equals(person.getPhone())) {
-                return true;
-            }
-        }
+    /**
+     * Returns the phones of the persons whose name contains any of the {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    public Set<Phone> findPhonesByNameKeywords(Collection<String> keywords) {
+        return persons.findByNameKeywords(keywords);
+    }
 
-        return false;
+    /**
+     * Returns the phones of the persons with all of the {@code tags} if {@code isMatchAll} is true, or with any of
+     * them otherwise.
+     */
+    public Set<Phone> findPhonesByTags(Collection<Tag> tags, boolean isMatchAll) {
+        return persons.findByTags(tags, isMatchAll);
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a name word or phone number starting with {@code prefix}.
+     */
+    public List<Person> findPersonsByPrefix(String prefix, int limit) {
+        return persons.findByPrefix(prefix, limit);
     }
 
     /**
@@ -104,10 +237,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        changedPersons.add(p.getPhone());
+    }
+
+    /**
+     * Adds {@code persons} to the address book with a single change to the person list.
+     * None of the persons may already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        persons.forEach(person -> changedPersons.add(person.getPhone()));
     }
 
     /**
-     * Replaces the given person {@code target} in the list with {@code editedPerson}.
+     * Replaces the given person {@code target} in the list with {@code editedPerson}, and the person of each loaded
+     * booking of {@code editedPerson}. Bookings still in the archive are given {@code editedPerson} when loaded.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
@@ -115,23 +259,71 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        editedPerson.getBookingIDs().forEach(bookingId -> {
+            Booking booking = bookings.getBooking(bookingId);
+            if (booking != null) {
+                booking.setBookingPerson(editedPerson);
+            }
+        });
+        changedPersons.add(target.getPhone());
+        changedPersons.add(editedPerson.getPhone());
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} and its bookings from this {@code AddressBook}.
      * {@code key} must exist in the address book.
+     *
+     * @throws BookingNotFoundException if one of the bookings of {@code key} does not exist, in which case nothing
+     *     is removed.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
-        List<Integer> bookingsToRemove = new ArrayList<>(key.getBookingIDs());
-        for (int bookingID : bookingsToRemove) {
-            bookings.removeById(bookingID);
+        if (!unloadedMonths.isEmpty() && !key.getBookingIDs().stream().allMatch(bookings::contains)) {
+            loadAllBookings();
         }
+        List<Booking> bookingsToRemove = new ArrayList<>(key.getBookingIDs().size());
+        key.getBookingIDs().forEach(bookingID -> {
+            Booking booking = bookings.getBooking(bookingID);
+            if (booking == null) {
+                throw new BookingNotFoundException();
+            }
+            bookingsToRemove.add(booking);
+        });
+        persons.remove(key);
+        bookings.removeAll(bookingsToRemove);
+        changedPersons.add(key.getPhone());
+        key.getBookingIDs().forEach(changedBookings::add);
     }
 
     //// booking-level operations
     public void addBooking(Booking booking) {
+        // the month is loaded first so that each month's bookings are either all loaded or all in the archive
+        LocalDate date = booking.getBookingDateTime().toLocalDate();
+        loadBookingsBetween(date, date);
         bookings.add(booking);
+        changedBookings.add(booking.getBookingId());
+    }
+
+    /**
+     * Adds {@code bookings} to the address book with a single change to the booking list, and adds each booking to
+     * the booking IDs of its person.
+     *
+     * @throws seedu.address.model.booking.exceptions.BookingLoadingException if the months of the bookings could
+     *     not be loaded from the archive, in which case nothing is added.
+     */
+    public void addBookings(List<Booking> bookings) {
+        List<YearMonth> months = bookings.stream()
+                .map(booking -> YearMonth.from(booking.getBookingDateTime()))
+                .filter(unloadedMonths::contains)
+                .distinct()
+                .collect(Collectors.toList());
+        loadMonths(months);
+        this.bookings.addAll(bookings);
+        for (Booking booking : bookings) {
+            Person person = booking.getBookingPerson();
+            person.addBookingID(booking.getBookingId());
+            changedPersons.add(person.getPhone());
+            changedBookings.add(booking.getBookingId());
+        }
     }
 
     /**
@@ -145,7 +337,66 @@ public class AddressBook implements ReadOnlyAddressBook {
         Person person = booking.getBookingPerson();
         if (person != null) {
             person.removeBookingID(id);
+            changedPersons.add(person.getPhone());
         }
+        changedBookings.add(id);
+    }
+
+    /**
+     * Edits {@code target} with the given {@code fieldsToEdit}.
+     * {@code target} must exist in the address book.
+     *
+     * @see Booking#updateFields(HashMap)
+     */
+    public void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit) {
+        Object newDateTime = fieldsToEdit.get("bookingDateTime");
+        if (newDateTime instanceof LocalDateTime) {
+            LocalDate date = ((LocalDateTime) newDateTime).toLocalDate();
+            loadBookingsBetween(date, date);
+        }
+        bookings.updateBooking(target, fieldsToEdit);
+        changedBookings.add(target.getBookingId());
+    }
+
+    /**
+     * Returns the booking with the given booking ID, or null if there is no such booking.
+     * The booking IDs do not tell which month a booking is in, so all bookings still in the archive are loaded
+     * if the booking is not loaded already.
+     *
+     * @throws seedu.address.model.booking.exceptions.BookingLoadingException if the archive could not be read.
+     */
+    public Booking getBooking(int bookingID) {
+        Booking booking = bookings.getBooking(bookingID);
+        if (booking == null && !unloadedMonths.isEmpty()) {
+            loadAllBookings();
+            booking = bookings.getBooking(bookingID);
+        }
+        return booking;
+    }
+
+    /**
+     * Returns the loaded booking with the given booking ID, or null if there is no such booking loaded.
+     * Unlike {@link #getBooking(int)}, this never loads bookings from the archive.
+     */
+    Booking getLoadedBooking(int bookingID) {
+        return bookings.getBooking(bookingID);
+    }
+
+    /**
+     * Returns the bookings on {@code date}, earliest first, loading the bookings of its month first.
+     *
+     * @throws seedu.address.model.booking.exceptions.BookingLoadingException if the archive could not be read.
+     */
+    public List<Booking> getBookingsOn(LocalDate date) {
+        loadBookingsBetween(date, date);
+        return bookings.getBookingsOn(date);
+    }
+
+    /**
+     * Returns the number of loaded bookings with the given status.
+     */
+    public int getBookingCount(Status status) {
+        return bookings.getBookingCount(status);
     }
 
     /**
@@ -164,7 +415,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return true if there are cancelled or upcoming bookings in the address book.
      */
     public boolean hasCancelledOrCompletedBookings() {
-        return !bookings.getCancelledOrCompletedBookings().isEmpty();
+        return bookings.getBookingCount(Status.CANCELLED) + bookings.getBookingCount(Status.COMPLETED) > 0;
     }
 
     /**
@@ -175,6 +426,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setBookingStatus(int bookingID, Status newStatus) {
         bookings.setBookingStatus(bookingID, newStatus);
+        changedBookings.add(bookingID);
     }
 
 
@@ -183,14 +435,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * and removes their booking IDs from the respective people.
      */
     public void clearBookings() {
+        loadAllBookings();
         List<Booking> bookingsToClear = new ArrayList<>(bookings.getCancelledOrCompletedBookings());
         for (Booking booking : bookingsToClear) {
             int id = booking.getBookingId();
             Person person = booking.getBookingPerson();
             if (person != null) {
                 person.removeBookingID(id);
+                changedPersons.add(person.getPhone());
             }
-
+            changedBookings.add(id);
         }
         bookings.clearBookings(bookingsToClear);
     }
@@ -203,10 +457,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return The person with the given phone number, or null if no such person exists.
      */
     public Person getPersonByPhone(Phone phoneNumber) {
-        return this.getPersonList().stream()
-                .filter(p -> p.getPhone().equals(phoneNumber))
-                .findFirst()
-                .orElse(null);
+        return persons.getPerson(phoneNumber);
+    }
+
+    /**
+     * Returns the persons and bookings that were added, edited or removed since the last call to this method,
+     * or since this address book was created, and starts recording changes afresh.
+     * Changes made by mutating a person or booking directly, rather than through this class, are not recorded.
+     */
+    public AddressBookChanges takeChanges() {
+        AddressBookChanges changes = isAllChanged
+                ? AddressBookChanges.all()
+                : AddressBookChanges.of(changedPersons, changedBookings);
+        changedPersons.clear();
+        changedBookings.clear();
+        isAllChanged = false;
+        return changes;
     }
 
     //// util methods
@@ -228,6 +494,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return bookings.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Set<YearMonth> getUnloadedBookingMonths() {
+        return Collections.unmodifiableSet(unloadedMonths);
+    }
+
     public UniqueBookingList getUniqueBookingList() {
         return bookings;
     }
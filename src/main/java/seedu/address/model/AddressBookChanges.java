@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Phone;
+
+/**
+ * The persons and bookings of an {@code AddressBook} that were added, edited or removed over some period,
+ * identified by phone number and booking ID.
+ * Guarantees: immutable
+ */
+public class AddressBookChanges {
+
+    private static final AddressBookChanges ALL = new AddressBookChanges(true, Set.of(), Set.of());
+
+    private final boolean isAllChanged;
+    private final Set<Phone> changedPersons;
+    private final Set<Integer> changedBookings;
+
+    private AddressBookChanges(boolean isAllChanged, Set<Phone> changedPersons, Set<Integer> changedBookings) {
+        this.isAllChanged = isAllChanged;
+        this.changedPersons = Collections.unmodifiableSet(changedPersons);
+        this.changedBookings = Collections.unmodifiableSet(changedBookings);
+    }
+
+    /**
+     * Returns changes to the persons with {@code changedPersons} and the bookings with {@code changedBookings}.
+     */
+    public static AddressBookChanges of(Set<Phone> changedPersons, Set<Integer> changedBookings) {
+        requireAllNonNull(changedPersons, changedBookings);
+        return new AddressBookChanges(false, new HashSet<>(changedPersons), new HashSet<>(changedBookings));
+    }
+
+    /**
+     * Returns changes that may affect every person and booking, such as replacing all the data.
+     */
+    public static AddressBookChanges all() {
+        return ALL;
+    }
+
+    /**
+     * Returns these changes followed by {@code later}, as one set of changes.
+     */
+    public AddressBookChanges merge(AddressBookChanges later) {
+        requireNonNull(later);
+        if (isAllChanged || later.isAllChanged) {
+            return ALL;
+        }
+        Set<Phone> mergedPersons = new HashSet<>(changedPersons);
+        mergedPersons.addAll(later.changedPersons);
+        Set<Integer> mergedBookings = new HashSet<>(changedBookings);
+        mergedBookings.addAll(later.changedBookings);
+        return new AddressBookChanges(false, mergedPersons, mergedBookings);
+    }
+
+    public boolean isAllChanged() {
+        return isAllChanged;
+    }
+
+    public boolean isEmpty() {
+        return !isAllChanged && changedPersons.isEmpty() && changedBookings.isEmpty();
+    }
+
+    /**
+     * Returns the phones of the changed persons, which are not all of them even if {@link #isAllChanged()}.
+     */
+    public Set<Phone> getChangedPersons() {
+        return changedPersons;
+    }
+
+    /**
+     * Returns the IDs of the changed bookings, which are not all of them even if {@link #isAllChanged()}.
+     */
+    public Set<Integer> getChangedBookings() {
+        return changedBookings;
+    }
+
+    /**
+     * Returns true if the person with {@code phone} may have changed.
+     */
+    public boolean isPersonChanged(Phone phone) {
+        return isAllChanged || changedPersons.contains(phone);
+    }
+
+    /**
+     * Returns true if the booking with {@code bookingId} may have changed.
+     */
+    public boolean isBookingChanged(int bookingId) {
+        return isAllChanged || changedBookings.contains(bookingId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isAllChanged", isAllChanged)
+                .add("changedPersons", changedPersons)
+                .add("changedBookings", changedBookings)
+                .toString();
+    }
+}
@@ -0,0 +1,268 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * A copy of an address book's persons and bookings, taken at one point in time.
+ * Persons and bookings are mutable, so they are copied too, and later changes to the source do not affect the copy.
+ * This lets the copy be saved on another thread while commands keep changing the source.
+ *
+ * A snapshot {@link #update updated} from another copies only the persons and bookings that changed, and shares the
+ * rest with it. It records the order of the source's persons and bookings, but builds its lists and the maps behind
+ * them only when they are first needed, usually on the thread that saves it, from the maps of the last snapshot that
+ * built them and the changes since. A storage that writes only what changed looks those up with
+ * {@link #getPerson(Phone)} and {@link #getBooking(int)}, so that it never needs the lists at all.
+ *
+ * Guarantees: immutable. A person or booking that is the same object in two snapshots has the same details in both,
+ * so a consumer can compare snapshots entity by entity using reference equality.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    // the updates a snapshot may be away from the last one that built its maps, so that looking up a person or
+    // booking stays cheap, and the copies of replaced persons and bookings are not kept for long
+    private static final int MAX_UPDATES = 256;
+
+    // the source's persons and bookings in order, which identify the copies to list but must not be read otherwise
+    private final Person[] sourcePersons;
+    private final Booking[] sourceBookings;
+    private final Set<YearMonth> unloadedBookingMonths;
+    private volatile Contents contents;
+
+    /**
+     * Creates a snapshot of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        sourcePersons = source.getPersonList().toArray(new Person[0]);
+        sourceBookings = source.getBookingList().toArray(new Booking[0]);
+        unloadedBookingMonths = Collections.unmodifiableSet(new HashSet<>(source.getUnloadedBookingMonths()));
+
+        Map<Phone, Person> personsByPhone = new HashMap<>();
+        for (Person person : sourcePersons) {
+            personsByPhone.put(person.getPhone(), copyOf(person));
+        }
+        Map<Integer, Booking> bookingsById = new HashMap<>();
+        for (Booking booking : sourceBookings) {
+            bookingsById.put(booking.getBookingId(), copyOf(booking));
+        }
+        contents = buildContents(personsByPhone, bookingsById);
+    }
+
+    private AddressBookSnapshot(AddressBook source, Contents previous, AddressBookChanges changes) {
+        sourcePersons = source.getPersonList().toArray(new Person[0]);
+        sourceBookings = source.getBookingList().toArray(new Booking[0]);
+        unloadedBookingMonths = Collections.unmodifiableSet(new HashSet<>(source.getUnloadedBookingMonths()));
+
+        Map<Phone, Person> changedPersons = new HashMap<>();
+        for (Phone phone : changes.getChangedPersons()) {
+            Person person = source.getPersonByPhone(phone);
+            if (person != null) {
+                changedPersons.put(phone, copyOf(person));
+            }
+        }
+        Map<Integer, Booking> changedBookings = new HashMap<>();
+        for (int bookingId : changes.getChangedBookings()) {
+            Booking booking = source.getLoadedBooking(bookingId);
+            if (booking != null) {
+                changedBookings.put(bookingId, copyOf(booking));
+            }
+        }
+        contents = new Contents(previous.personsByPhone, previous.bookingsById,
+                new Update(changes, changedPersons, changedBookings, previous.lastUpdate), previous.updateCount + 1);
+    }
+
+    /**
+     * Returns a snapshot of {@code source}, which has had {@code changes} since this snapshot was taken.
+     * Persons and bookings that did not change are shared with this snapshot rather than copied again.
+     */
+    public AddressBookSnapshot update(ReadOnlyAddressBook source, AddressBookChanges changes) {
+        requireAllNonNull(source, changes);
+        if (changes.isAllChanged() || !(source instanceof AddressBook)) {
+            return new AddressBookSnapshot(source);
+        }
+        Contents previous = contents;
+        if (previous.updateCount >= MAX_UPDATES) {
+            previous = build();
+        }
+        return new AddressBookSnapshot((AddressBook) source, previous, changes);
+    }
+
+    /**
+     * Returns the copy of the person with {@code phone}, or null if there is no such person in this snapshot.
+     */
+    public Person getPerson(Phone phone) {
+        requireNonNull(phone);
+        Contents current = contents;
+        for (Update update = current.lastUpdate; update != null; update = update.previous) {
+            if (update.changes.isPersonChanged(phone)) {
+                return update.persons.get(phone);
+            }
+        }
+        return current.personsByPhone.get(phone);
+    }
+
+    /**
+     * Returns the copy of the booking with {@code bookingId}, or null if there is no such booking in this snapshot.
+     */
+    public Booking getBooking(int bookingId) {
+        Contents current = contents;
+        for (Update update = current.lastUpdate; update != null; update = update.previous) {
+            if (update.changes.isBookingChanged(bookingId)) {
+                return update.bookings.get(bookingId);
+            }
+        }
+        return current.bookingsById.get(bookingId);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return build().persons;
+    }
+
+    @Override
+    public ObservableList<Booking> getBookingList() {
+        return build().bookings;
+    }
+
+    @Override
+    public Set<YearMonth> getUnloadedBookingMonths() {
+        return unloadedBookingMonths;
+    }
+
+    /**
+     * Returns the contents of this snapshot with its lists built, building them first if they are not yet.
+     */
+    private synchronized Contents build() {
+        Contents current = contents;
+        if (current.persons != null) {
+            return current;
+        }
+
+        List<Update> updates = new ArrayList<>(current.updateCount);
+        for (Update update = current.lastUpdate; update != null; update = update.previous) {
+            updates.add(update);
+        }
+        Map<Phone, Person> personsByPhone = new HashMap<>(current.personsByPhone);
+        Map<Integer, Booking> bookingsById = new HashMap<>(current.bookingsById);
+        // the oldest update first, so that a later change to a person or booking wins
+        for (int i = updates.size() - 1; i >= 0; i--) {
+            Update update = updates.get(i);
+            for (Phone phone : update.changes.getChangedPersons()) {
+                putOrRemove(personsByPhone, phone, update.persons.get(phone));
+            }
+            for (int bookingId : update.changes.getChangedBookings()) {
+                putOrRemove(bookingsById, bookingId, update.bookings.get(bookingId));
+            }
+        }
+
+        contents = buildContents(personsByPhone, bookingsById);
+        return contents;
+    }
+
+    private Contents buildContents(Map<Phone, Person> personsByPhone, Map<Integer, Booking> bookingsById) {
+        List<Person> persons = new ArrayList<>(sourcePersons.length);
+        for (Person source : sourcePersons) {
+            Person copy = personsByPhone.get(source.getPhone());
+            // a person changed without the source recording it has no copy, so one is taken as late as possible
+            persons.add(copy != null ? copy : copyOf(source));
+        }
+        List<Booking> bookings = new ArrayList<>(sourceBookings.length);
+        for (Booking source : sourceBookings) {
+            Booking copy = bookingsById.get(source.getBookingId());
+            bookings.add(copy != null ? copy : copyOf(source));
+        }
+        return new Contents(personsByPhone, bookingsById, FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(persons)), FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(bookings)));
+    }
+
+    private static <K, V> void putOrRemove(Map<K, V> map, K key, V value) {
+        if (value == null) {
+            map.remove(key);
+        } else {
+            map.put(key, value);
+        }
+    }
+
+    private static Person copyOf(Person person) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getMemberStatus(), person.getBookingIDs());
+    }
+
+    private static Booking copyOf(Booking booking) {
+        // bookings are saved without their person, so the copies are not linked to one
+        return new Booking(booking.getBookingId(), booking.getBookingDateTime(), booking.getBookingMadeDateTime(),
+                booking.getStatus(), booking.getRemarks(), booking.getPax());
+    }
+
+    /**
+     * The copies of the persons and bookings that changed in one update, linked to the update before it.
+     * A changed person or booking without a copy was removed.
+     */
+    private static class Update {
+
+        private final AddressBookChanges changes;
+        private final Map<Phone, Person> persons;
+        private final Map<Integer, Booking> bookings;
+        private final Update previous;
+
+        Update(AddressBookChanges changes, Map<Phone, Person> persons, Map<Integer, Booking> bookings,
+                Update previous) {
+            this.changes = changes;
+            this.persons = persons;
+            this.bookings = bookings;
+            this.previous = previous;
+        }
+    }
+
+    /**
+     * The maps of the copies as of the last snapshot that built them, and the updates since, newest first.
+     * Once a snapshot is built, its own maps and lists are kept instead, with no updates.
+     * Maps and lists here are never changed once the contents are published, so they are shared between snapshots.
+     */
+    private static class Contents {
+
+        private final Map<Phone, Person> personsByPhone;
+        private final Map<Integer, Booking> bookingsById;
+        private final Update lastUpdate;
+        private final int updateCount;
+        private final ObservableList<Person> persons;
+        private final ObservableList<Booking> bookings;
+
+        Contents(Map<Phone, Person> personsByPhone, Map<Integer, Booking> bookingsById, Update lastUpdate,
+                int updateCount) {
+            this.personsByPhone = personsByPhone;
+            this.bookingsById = bookingsById;
+            this.lastUpdate = lastUpdate;
+            this.updateCount = updateCount;
+            this.persons = null;
+            this.bookings = null;
+        }
+
+        Contents(Map<Phone, Person> personsByPhone, Map<Integer, Booking> bookingsById,
+                ObservableList<Person> persons, ObservableList<Booking> bookings) {
+            this.personsByPhone = personsByPhone;
+            this.bookingsById = bookingsById;
+            this.lastUpdate = null;
+            this.updateCount = 0;
+            this.persons = persons;
+            this.bookings = bookings;
+        }
+    }
+}
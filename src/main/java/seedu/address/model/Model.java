@@ -1,6 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,6 +13,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Status;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -18,7 +25,7 @@ public interface Model {
      */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
     Predicate<Booking> PREDICATE_SHOW_ALL_BOOKINGS = unused -> true;
-    Predicate<Booking> PREDICATE_SHOW_UPCOMING_BOOKINGS = booking -> booking.getStatus().equals(Status.UPCOMING);
+    Predicate<Booking> PREDICATE_SHOW_UPCOMING_BOOKINGS = booking -> booking.getStatus() == Status.UPCOMING;
 
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
@@ -78,6 +85,11 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, none of whom may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -85,6 +97,24 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the phones of the persons whose name contains any of the {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    Set<Phone> findPhonesByNameKeywords(Collection<String> keywords);
+
+    /**
+     * Returns the phones of the persons with all of the {@code tags} if {@code isMatchAll} is true, or with any of
+     * them otherwise.
+     */
+    Set<Phone> findPhonesByTags(Collection<Tag> tags, boolean isMatchAll);
+
+    /**
+     * Returns up to {@code limit} persons with a name word or phone number starting with {@code prefix},
+     * sorted by name.
+     */
+    List<Person> findPersonsByPrefix(String prefix, int limit);
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -109,6 +139,70 @@ public interface Model {
      */
     void addBooking(Booking booking);
 
+    /**
+     * Adds {@code bookings} to the address book, and each booking to the booking IDs of its person.
+     */
+    void addBookings(List<Booking> bookings);
+
+    /**
+     * Deletes the given booking, and removes it from the booking IDs of its person.
+     * The booking must exist in the address book.
+     */
+    void deleteBooking(Booking target);
+
+    /**
+     * Edits the given booking {@code target} with the given {@code fieldsToEdit}.
+     * {@code target} must exist in the address book.
+     */
+    void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit);
+
+    /**
+     * Sets the status of the booking with the given booking ID to {@code newStatus}.
+     * The booking must exist in the address book.
+     */
+    void setBookingStatus(int bookingId, Status newStatus);
+
+    /**
+     * Returns true if the address book has any cancelled or completed bookings.
+     */
+    boolean hasCancelledOrCompletedBookings();
+
+    /**
+     * Deletes all cancelled and completed bookings.
+     */
+    void clearBookings();
+
+    /**
+     * Returns the person with the given phone number, or null if there is no such person.
+     */
+    Person getPersonByPhone(Phone phone);
+
+    /**
+     * Returns the booking with the given booking ID, or null if there is no such booking.
+     * Bookings not loaded yet are loaded to look for it.
+     */
+    Booking getBooking(int bookingId);
+
+    /**
+     * Returns the bookings on {@code date}, earliest first.
+     */
+    List<Booking> getBookingsOn(LocalDate date);
+
+    /**
+     * Returns the number of loaded bookings with the given status.
+     */
+    int getBookingCount(Status status);
+
+    /**
+     * Loads the bookings from {@code start} to {@code end} inclusive that are not loaded yet.
+     */
+    void loadBookingsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Loads all bookings that are not loaded yet.
+     */
+    void loadAllBookings();
+
     /**
      * Returns an unmodifiable view of the filtered booking list
      */
@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,7 +18,10 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -110,18 +118,103 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<Phone> findPhonesByNameKeywords(Collection<String> keywords) {
+        return addressBook.findPhonesByNameKeywords(keywords);
+    }
+
+    @Override
+    public Set<Phone> findPhonesByTags(Collection<Tag> tags, boolean isMatchAll) {
+        return addressBook.findPhonesByTags(tags, isMatchAll);
+    }
+
+    @Override
+    public List<Person> findPersonsByPrefix(String prefix, int limit) {
+        return addressBook.findPersonsByPrefix(prefix, limit);
+    }
+
     @Override
     public void addBooking(Booking booking) {
         addressBook.addBooking(booking);
         updateFilteredBookingList(PREDICATE_SHOW_ALL_BOOKINGS);
     }
 
+    @Override
+    public void addBookings(List<Booking> bookings) {
+        addressBook.addBookings(bookings);
+    }
+
+    @Override
+    public void deleteBooking(Booking target) {
+        addressBook.removeBooking(target);
+    }
+
+    @Override
+    public void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit) {
+        requireAllNonNull(target, fieldsToEdit);
+        addressBook.updateBooking(target, fieldsToEdit);
+    }
+
+    @Override
+    public void setBookingStatus(int bookingId, Status newStatus) {
+        requireNonNull(newStatus);
+        addressBook.setBookingStatus(bookingId, newStatus);
+    }
+
+    @Override
+    public boolean hasCancelledOrCompletedBookings() {
+        return addressBook.hasCancelledOrCompletedBookings();
+    }
+
+    @Override
+    public void clearBookings() {
+        addressBook.clearBookings();
+    }
+
+    @Override
+    public Person getPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.getPersonByPhone(phone);
+    }
+
+    @Override
+    public Booking getBooking(int bookingId) {
+        return addressBook.getBooking(bookingId);
+    }
+
+    @Override
+    public List<Booking> getBookingsOn(LocalDate date) {
+        requireNonNull(date);
+        return addressBook.getBookingsOn(date);
+    }
+
+    @Override
+    public int getBookingCount(Status status) {
+        requireNonNull(status);
+        return addressBook.getBookingCount(status);
+    }
+
+    @Override
+    public void loadBookingsBetween(LocalDate start, LocalDate end) {
+        addressBook.loadBookingsBetween(start, end);
+    }
+
+    @Override
+    public void loadAllBookings() {
+        addressBook.loadAllBookings();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -1,5 +1,9 @@
 package seedu.address.model;
 
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.booking.Booking;
 import seedu.address.model.person.Person;
@@ -16,4 +20,11 @@ public interface ReadOnlyAddressBook {
     ObservableList<Person> getPersonList();
 
     ObservableList<Booking> getBookingList();
+
+    /**
+     * Returns the months whose bookings are still in storage and have not been loaded into the booking list.
+     */
+    default Set<YearMonth> getUnloadedBookingMonths() {
+        return Collections.emptySet();
+    }
 }
@@ -16,6 +16,9 @@ import seedu.address.model.person.Person;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Booking {
+    public static final int MIN_PAX = 1;
+    public static final int MAX_PAX = 500;
+
     /**
      * Represents the status of the booking.
      */
@@ -120,6 +123,13 @@ public class Booking {
         return statusProperty;
     }
 
+    /**
+     * Returns true if {@code pax} is a valid number of persons for a booking.
+     */
+    public static boolean isValidPax(int pax) {
+        return pax >= MIN_PAX && pax <= MAX_PAX;
+    }
+
     public String getRemarks() {
         return remarks;
     }
@@ -132,6 +142,10 @@ public class Booking {
         return bookingId;
     }
 
+    public static int getBookingIdCounter() {
+        return bookingIdCounter;
+    }
+
     // for when we read from storage
     public static void setBookingIdCounter(int bookingIdCounter) {
         Booking.bookingIdCounter = bookingIdCounter;
@@ -140,6 +154,8 @@ public class Booking {
     /**
      * Updates the fields of this booking based on the provided map.
      * The keys in the map should be "bookingDateTime", "pax", "remarks", and "tags".
+     * Bookings held in a {@code UniqueBookingList} should be edited through
+     * {@link UniqueBookingList#updateBooking(Booking, HashMap)} so that its time index stays consistent.
      *
      * @param fieldsToEdit A map containing the fields to edit and their new values.
      */
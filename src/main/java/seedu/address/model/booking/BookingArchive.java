@@ -0,0 +1,23 @@
+package seedu.address.model.booking;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Bookings kept in storage that are loaded into an {@code AddressBook} a month at a time, only when needed.
+ */
+public interface BookingArchive {
+
+    /**
+     * Returns the bookings made for dates in {@code month}, read from storage.
+     * The bookings are not yet linked to the persons holding them.
+     *
+     * @throws seedu.address.model.booking.exceptions.BookingLoadingException if the bookings could not be read.
+     */
+    List<Booking> loadMonth(YearMonth month);
+
+    /**
+     * Returns the largest ID of the bookings in the archive, whether loaded or not, or 0 if there are none.
+     */
+    int getMaxBookingId();
+}
@@ -0,0 +1,190 @@
+package seedu.address.model.booking;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A set of booking IDs backed by a sorted {@code int} array.
+ * Unlike a {@code Set<Integer>}, IDs are stored without boxing, and lookups and iteration with
+ * {@link #forEach} or {@link #get} do not allocate. {@link #toArray} and {@link #stream} are for callers that
+ * need a copy or a stream, and should not be used just to loop over the IDs.
+ * Lookups are O(log n) by binary search; insertions and removals are O(n), which is cheap for the
+ * small number of bookings a single person holds.
+ */
+public class BookingIdSet {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] ids;
+    private int size;
+
+    /**
+     * Creates an empty {@code BookingIdSet}.
+     */
+    public BookingIdSet() {
+        ids = EMPTY;
+        size = 0;
+    }
+
+    /**
+     * Creates a {@code BookingIdSet} with the same IDs as {@code toCopy}.
+     */
+    public BookingIdSet(BookingIdSet toCopy) {
+        requireNonNull(toCopy);
+        ids = toCopy.size == 0 ? EMPTY : Arrays.copyOf(toCopy.ids, toCopy.size);
+        size = toCopy.size;
+    }
+
+    /**
+     * Returns a {@code BookingIdSet} containing the given IDs. Duplicates are ignored.
+     */
+    public static BookingIdSet of(int... bookingIds) {
+        requireNonNull(bookingIds);
+        BookingIdSet set = new BookingIdSet();
+        if (bookingIds.length == 0) {
+            return set;
+        }
+
+        int[] sorted = Arrays.copyOf(bookingIds, bookingIds.length);
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        set.ids = sorted;
+        set.size = distinct;
+        return set;
+    }
+
+    /**
+     * Returns true if the set contains {@code bookingId}.
+     */
+    public boolean contains(int bookingId) {
+        return Arrays.binarySearch(ids, 0, size, bookingId) >= 0;
+    }
+
+    /**
+     * Adds {@code bookingId} to the set.
+     *
+     * @return true if the set did not already contain the ID.
+     */
+    public boolean add(int bookingId) {
+        int index = Arrays.binarySearch(ids, 0, size, bookingId);
+        if (index >= 0) {
+            return false;
+        }
+
+        int insertionPoint = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(2, size + (size >> 1) + 1));
+        }
+        System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+        ids[insertionPoint] = bookingId;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes {@code bookingId} from the set.
+     *
+     * @return true if the set contained the ID.
+     */
+    public boolean remove(int bookingId) {
+        int index = Arrays.binarySearch(ids, 0, size, bookingId);
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ID at {@code index}, counting from 0 in ascending order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #size()}.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return ids[index];
+    }
+
+    /**
+     * Performs {@code action} on each ID in ascending order, without copying the IDs.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < size; i++) {
+            action.accept(ids[i]);
+        }
+    }
+
+    /**
+     * Returns the IDs in ascending order as a new array.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Returns the IDs in ascending order as an {@code IntStream}.
+     */
+    public IntStream stream() {
+        return Arrays.stream(ids, 0, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BookingIdSet)) {
+            return false;
+        }
+
+        BookingIdSet otherSet = (BookingIdSet) other;
+        return Arrays.equals(ids, 0, size, otherSet.ids, 0, otherSet.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + ids[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Format state as text for viewing, in the same form as {@code Set#toString()}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(ids[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -3,10 +3,23 @@ package seedu.address.model.booking;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,14 +30,36 @@ import seedu.address.model.booking.exceptions.DuplicateBookingException;
  * A list of bookings that enforces uniqueness between its elements and does not allow nulls.
  * A booking is considered unique by its booking ID.
  *
- * This class wraps a {@code HashMap<Integer, Booking>} to provide O(1) lookups by booking ID.
+ * This class wraps a {@code HashMap<Integer, Booking>} to provide O(1) lookups by booking ID,
+ * and keeps a secondary index ordered by booking time so that date and time range queries
+ * only visit the bookings in range. Bookings are also partitioned by {@code Status}, each partition
+ * ordered by booking time, so that status views and counts do not scan the whole list.
+ *
+ * The position of each booking in the observable list is tracked by booking ID, so that a booking can be replaced
+ * or removed without searching the list. The observable list keeps its order across removals, and each removal,
+ * of one booking or of several at once, is published to listeners as one change.
  */
 public class UniqueBookingList implements Iterable<Booking> {
 
+    private static final Comparator<Booking> EARLIEST_FIRST = Comparator.comparing(Booking::getBookingDateTime)
+            .thenComparingInt(Booking::getBookingId);
+
     private final Map<Integer, Booking> internalMap = new HashMap<>();
     private final ObservableList<Booking> internalList = FXCollections.observableArrayList();
     private final ObservableList<Booking> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Integer, Integer> positions = new HashMap<>();
+    private final NavigableMap<LocalDateTime, List<Booking>> timeIndex = new TreeMap<>();
+    private final Map<Status, NavigableSet<Booking>> statusIndex = new EnumMap<>(Status.class);
+
+    /**
+     * Creates an empty {@code UniqueBookingList}.
+     */
+    public UniqueBookingList() {
+        for (Status status : Status.values()) {
+            statusIndex.put(status, new TreeSet<>(EARLIEST_FIRST));
+        }
+    }
 
     /**
      * Returns true if the list contains a booking with the same ID as the given booking.
@@ -46,7 +81,36 @@ public class UniqueBookingList implements Iterable<Booking> {
             throw new DuplicateBookingException();
         }
         internalMap.put(booking.getBookingId(), booking);
+        positions.put(booking.getBookingId(), internalList.size());
         internalList.add(booking);
+        addToIndexes(booking);
+    }
+
+    /**
+     * Adds {@code bookings} to the end of the list with a single change.
+     * None of the bookings may already exist in the list.
+     *
+     * @throws DuplicateBookingException if a booking has the same ID as another booking in the list or in
+     *     {@code bookings}.
+     */
+    public void addAll(List<Booking> bookings) {
+        requireNonNull(bookings);
+        Set<Integer> ids = new HashSet<>();
+        for (Booking booking : bookings) {
+            if (contains(booking.getBookingId()) || !ids.add(booking.getBookingId())) {
+                throw new DuplicateBookingException();
+            }
+        }
+
+        int position = internalList.size();
+        for (Booking booking : bookings) {
+            internalMap.put(booking.getBookingId(), booking);
+            positions.put(booking.getBookingId(), position++);
+        }
+        internalList.addAll(bookings);
+        for (Booking booking : bookings) {
+            addToIndexes(booking);
+        }
     }
 
     /**
@@ -60,7 +124,8 @@ public class UniqueBookingList implements Iterable<Booking> {
         if (removed == null) {
             throw new BookingNotFoundException();
         }
-        internalList.remove(removed);
+        removeFromList(bookingId);
+        removeFromIndexes(removed);
     }
 
     /**
@@ -74,7 +139,41 @@ public class UniqueBookingList implements Iterable<Booking> {
         if (removed == null) {
             throw new BookingNotFoundException();
         }
-        internalList.remove(removed);
+        removeFromList(booking.getBookingId());
+        removeFromIndexes(removed);
+    }
+
+    /**
+     * Removes all of the given bookings from the list, notifying listeners of the observable list once.
+     * Every booking must exist in the list.
+     *
+     * @throws BookingNotFoundException if any of the bookings is not in the list; the list is then left unchanged.
+     */
+    public void removeAll(Collection<Booking> bookingsToRemove) {
+        requireAllNonNull(bookingsToRemove);
+        Set<Integer> idsToRemove = new HashSet<>();
+        for (Booking booking : bookingsToRemove) {
+            if (!contains(booking.getBookingId())) {
+                throw new BookingNotFoundException();
+            }
+            idsToRemove.add(booking.getBookingId());
+        }
+        if (idsToRemove.size() <= 1) {
+            idsToRemove.forEach(this::removeById);
+            return;
+        }
+
+        for (int id : idsToRemove) {
+            removeFromIndexes(internalMap.remove(id));
+        }
+        List<Booking> remaining = new ArrayList<>(internalList.size() - idsToRemove.size());
+        for (Booking booking : internalList) {
+            if (!idsToRemove.contains(booking.getBookingId())) {
+                remaining.add(booking);
+            }
+        }
+        internalList.setAll(remaining);
+        rebuildPositions();
     }
 
     /**
@@ -98,11 +197,31 @@ public class UniqueBookingList implements Iterable<Booking> {
             throw new DuplicateBookingException();
         }
 
-        internalMap.remove(targetId);
+        Booking existing = internalMap.remove(targetId);
         internalMap.put(editedId, editedBooking);
 
-        int index = internalList.indexOf(target);
+        int index = positions.remove(targetId);
+        positions.put(editedId, index);
         internalList.set(index, editedBooking);
+        removeFromIndexes(existing);
+        addToIndexes(editedBooking);
+    }
+
+    /**
+     * Applies {@code fieldsToEdit} to {@code target} via {@link Booking#updateFields(HashMap)},
+     * keeping the indexes consistent if the booking time changes.
+     *
+     * @throws BookingNotFoundException if the target booking is not in the list.
+     */
+    public void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit) {
+        requireAllNonNull(target, fieldsToEdit);
+        if (internalMap.get(target.getBookingId()) != target) {
+            throw new BookingNotFoundException();
+        }
+
+        removeFromIndexes(target);
+        target.updateFields(fieldsToEdit);
+        addToIndexes(target);
     }
 
     /**
@@ -122,9 +241,14 @@ public class UniqueBookingList implements Iterable<Booking> {
         }
 
         internalMap.clear();
-        internalList.clear();
+        timeIndex.clear();
+        statusIndex.values().forEach(NavigableSet::clear);
         internalMap.putAll(tempMap);
-        internalList.addAll(bookings);
+        internalList.setAll(bookings);
+        rebuildPositions();
+        for (Booking booking : bookings) {
+            addToIndexes(booking);
+        }
     }
 
     /**
@@ -145,26 +269,61 @@ public class UniqueBookingList implements Iterable<Booking> {
     }
 
     /**
-     * Returns all upcoming bookings.
+     * Returns all bookings with a booking time from {@code start} (inclusive) to {@code end} (exclusive),
+     * earliest first.
+     */
+    public List<Booking> getBookingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Booking> result = new ArrayList<>();
+        if (!start.isBefore(end)) {
+            return result;
+        }
+        for (List<Booking> bucket : timeIndex.subMap(start, true, end, false).values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    /**
+     * Returns all bookings on the given date, earliest first.
+     */
+    public List<Booking> getBookingsOn(LocalDate date) {
+        requireNonNull(date);
+        return getBookingsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns all upcoming bookings, earliest first.
      */
     public List<Booking> getUpcomingBookings() {
-        return internalList.stream()
-                .filter(booking -> booking.getStatus() == Status.UPCOMING)
-                .sorted((b1, b2) -> b1.getBookingDateTime().compareTo(b2.getBookingDateTime()))
-                .toList();
+        return new ArrayList<>(statusIndex.get(Status.UPCOMING));
     }
 
 
     /**
-     * Returns all cancelled or completed bookings.
+     * Returns all cancelled or completed bookings, earliest first.
      */
     public List<Booking> getCancelledOrCompletedBookings() {
-        return internalList.stream()
-                .filter(booking -> booking.getStatus() != Status.UPCOMING)
-                .sorted((b1, b2) -> b1.getBookingDateTime().compareTo(b2.getBookingDateTime()))
+        return Stream.concat(statusIndex.get(Status.CANCELLED).stream(), statusIndex.get(Status.COMPLETED).stream())
+                .sorted(EARLIEST_FIRST)
                 .toList();
     }
 
+    /**
+     * Returns the number of bookings with the given status.
+     */
+    public int getBookingCount(Status status) {
+        requireNonNull(status);
+        return statusIndex.get(status).size();
+    }
+
+    /**
+     * Returns true if there are no bookings in the list.
+     */
+    public boolean isEmpty() {
+        return internalMap.isEmpty();
+    }
+
     /**
      * Sets the status of the booking with the given booking ID.
      */
@@ -173,7 +332,9 @@ public class UniqueBookingList implements Iterable<Booking> {
         if (booking == null) {
             throw new BookingNotFoundException();
         }
+        statusIndex.get(booking.getStatus()).remove(booking);
         booking.setStatus(newStatus);
+        statusIndex.get(newStatus).add(booking);
     }
 
     /**
@@ -200,14 +361,50 @@ public class UniqueBookingList implements Iterable<Booking> {
 
     /**
      * Removes all cancelled or completed bookings.
+     *
+     * @see #removeAll(Collection)
      */
     public void clearBookings(List<Booking> bookingsToClear) {
-        for (Booking booking : bookingsToClear) {
-            int id = booking.getBookingId();
-            internalMap.remove(id);
+        removeAll(bookingsToClear);
+    }
+
+    /**
+     * Removes the booking with {@code bookingId} from the observable list, moving up the positions of the bookings
+     * after it.
+     */
+    private void removeFromList(int bookingId) {
+        int index = positions.remove(bookingId);
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getBookingId(), i);
         }
+    }
 
-        internalList.removeAll(bookingsToClear);
+    private void rebuildPositions() {
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getBookingId(), i);
+        }
+    }
+
+    private void addToIndexes(Booking booking) {
+        timeIndex.computeIfAbsent(booking.getBookingDateTime(), unused -> new ArrayList<>()).add(booking);
+        statusIndex.get(booking.getStatus()).add(booking);
+    }
+
+    private void removeFromIndexes(Booking booking) {
+        statusIndex.get(booking.getStatus()).remove(booking);
+
+        LocalDateTime key = booking.getBookingDateTime();
+        List<Booking> bucket = timeIndex.get(key);
+        if (bucket == null) {
+            return;
+        }
+        // compare by reference, as bookings loaded from storage may not be linked to a person yet
+        bucket.removeIf(b -> b == booking);
+        if (bucket.isEmpty()) {
+            timeIndex.remove(key);
+        }
     }
 
     @Override
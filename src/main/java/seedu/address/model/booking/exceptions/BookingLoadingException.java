@@ -0,0 +1,12 @@
+package seedu.address.model.booking.exceptions;
+
+import java.time.YearMonth;
+
+/**
+ * Signals that the bookings of a month could not be loaded from storage.
+ */
+public class BookingLoadingException extends RuntimeException {
+    public BookingLoadingException(YearMonth month, Throwable cause) {
+        super("Could not load the bookings of " + month + ": " + cause.getMessage(), cause);
+    }
+}
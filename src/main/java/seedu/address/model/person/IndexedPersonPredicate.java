@@ -0,0 +1,18 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+
+/**
+ * A {@code Predicate<Person>} whose matches can also be looked up in the model's indexes, instead of testing every
+ * person in the address book.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the phone numbers of the persons in {@code model} that this predicate matches.
+     */
+    Set<Phone> findMatches(Model model);
+}
@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.booking.BookingIdSet;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -27,32 +28,34 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
     private boolean isMember; // member / public
     private Date dateJoined;
-    private Set<Integer> bookingIDs = new HashSet<>();
+    private final BookingIdSet bookingIDs;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, boolean isMember,
-                  Set<Integer> bookingIDs) {
-        requireAllNonNull(name, phone, email, address, tags);
+                  BookingIdSet bookingIDs) {
+        requireAllNonNull(name, phone, email, address, tags, bookingIDs);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        for (Tag tag : tags) {
+            this.tags.add(Tag.of(tag.tagName));
+        }
         this.isMember = isMember;
         if (isMember) {
             this.dateJoined = new Date();
         } else {
             this.dateJoined = null;
         }
-        this.bookingIDs.addAll(bookingIDs);
+        this.bookingIDs = new BookingIdSet(bookingIDs);
     }
 
     /**
      * Constructor overload without isMember field.
      */
-    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Set<Integer> bookingIDs) {
+    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, BookingIdSet bookingIDs) {
         this(name, phone, email, address, tags, false, bookingIDs);
     }
 
@@ -60,14 +63,14 @@ public class Person {
      * Constructor overload without bookings field. Loads person with no bookings.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, boolean isMember) {
-        this(name, phone, email, address, tags, isMember, new HashSet<>());
+        this(name, phone, email, address, tags, isMember, new BookingIdSet());
     }
 
     /**
      * Constructor overload without bookings field and isMember field. Loads person with no bookings.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        this(name, phone, email, address, tags, false, new HashSet<>());
+        this(name, phone, email, address, tags, false, new BookingIdSet());
     }
 
     public Name getName() {
@@ -96,9 +99,9 @@ public class Person {
 
     /**
      * Returns set of bookings the person has.
-     * @return set of bookings.
+     * @return set of booking IDs.
      */
-    public Set<Integer> getBookingIDs() {
+    public BookingIdSet getBookingIDs() {
         return bookingIDs;
     }
 
@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} is the phone given.
+ */
+public class PersonHasPhonePredicate implements IndexedPersonPredicate {
+    private final Phone phone;
+
+    public PersonHasPhonePredicate(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    @Override
+    public Set<Phone> findMatches(Model model) {
+        return model.getPersonByPhone(phone) != null ? Set.of(phone) : Set.of();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getPhone().equals(phone);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonHasPhonePredicate)) {
+            return false;
+        }
+
+        PersonHasPhonePredicate otherPersonHasPhonePredicate = (PersonHasPhonePredicate) other;
+        return phone.equals(otherPersonHasPhonePredicate.phone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phone", phone).toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} has any, or all, of the tags given.
+ */
+public class PersonHasTagsPredicate implements IndexedPersonPredicate {
+    private final Set<Tag> tags;
+    private final boolean isMatchAll;
+
+    /**
+     * Creates a predicate that matches persons with all of the {@code tags} if {@code isMatchAll} is true,
+     * or with any of the {@code tags} otherwise.
+     */
+    public PersonHasTagsPredicate(Set<Tag> tags, boolean isMatchAll) {
+        requireAllNonNull(tags);
+        this.tags = new HashSet<>(tags);
+        this.isMatchAll = isMatchAll;
+    }
+
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
+    public boolean isMatchAll() {
+        return isMatchAll;
+    }
+
+    @Override
+    public Set<Phone> findMatches(Model model) {
+        return model.findPhonesByTags(tags, isMatchAll);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (tags.isEmpty()) {
+            return false;
+        }
+        return isMatchAll
+                ? person.getTags().containsAll(tags)
+                : tags.stream().anyMatch(person.getTags()::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonHasTagsPredicate)) {
+            return false;
+        }
+
+        PersonHasTagsPredicate otherPersonHasTagsPredicate = (PersonHasTagsPredicate) other;
+        return tags.equals(otherPersonHasTagsPredicate.tags) && isMatchAll == otherPersonHasTagsPredicate.isMatchAll;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tags", tags).add("isMatchAll", isMatchAll).toString();
+    }
+}
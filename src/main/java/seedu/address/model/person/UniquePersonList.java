@@ -3,13 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +29,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Phone}, the identity field used by {@code Person#isSamePerson(Person)},
+ * so that identity checks and phone lookups are O(1) instead of scanning the list. An inverted index from
+ * case-folded name words to phones answers whole-word name searches without scanning the list either. Name words
+ * and phone numbers are also kept in sorted order, so that prefix searches only visit the start of the matching
+ * range of keys.
+ * Tags map to the phones of the persons carrying them, so tag searches combine those sets instead of every
+ * person's tags.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +46,112 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+    private final Map<String, Set<Phone>> nameIndex = new HashMap<>();
+    // keyed by each case-folded name word followed by the name and phone number, so that keys are unique
+    private final NavigableMap<String, Person> nameWordIndex = new TreeMap<>();
+    private final NavigableMap<String, Phone> phonePrefixIndex = new TreeMap<>();
+    private final Map<Tag, Set<Phone>> tagIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns the person with the given phone number.
+     *
+     * @param phone The phone number of the person to retrieve.
+     * @return the person with the given phone number, or null if not found.
+     */
+    public Person getPerson(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.get(phone);
+    }
+
+    /**
+     * Returns the phones of the persons whose name contains any of the {@code keywords} as a whole word,
+     * ignoring case. Matches are the same as those of {@link NameContainsKeywordsPredicate}.
+     */
+    public Set<Phone> findByNameKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<Phone> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Phone> postings = nameIndex.get(toNameIndexKey(keyword.trim()));
+            if (postings != null) {
+                matches.addAll(postings);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the phones of the persons with all of the {@code tags} if {@code isMatchAll} is true, or with any of
+     * them otherwise. Returns no phones if {@code tags} is empty.
+     */
+    public Set<Phone> findByTags(Collection<Tag> tags, boolean isMatchAll) {
+        requireAllNonNull(tags);
+        List<Set<Phone>> postings = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            Set<Phone> tagPostings = tagIndex.get(tag);
+            if (tagPostings != null) {
+                postings.add(tagPostings);
+            } else if (isMatchAll) {
+                return new HashSet<>();
+            }
+        }
+        if (postings.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<Phone> matches;
+        if (isMatchAll) {
+            // intersect starting from the rarest tag, so each step only checks the remaining candidates
+            postings.sort(Comparator.comparingInt(Set::size));
+            matches = new HashSet<>(postings.get(0));
+            for (int i = 1; i < postings.size() && !matches.isEmpty(); i++) {
+                matches.retainAll(postings.get(i));
+            }
+        } else {
+            matches = new HashSet<>();
+            postings.forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns up to {@code limit} persons that have a name word starting with {@code prefix}, ignoring case,
+     * in order of that word and then of name, followed by the persons whose phone number starts with
+     * {@code prefix}, in order of phone number.
+     * The keys in the matching ranges are visited in order and the search stops once {@code limit} persons are
+     * found, so the cost grows with {@code limit} rather than with the number of matches or the size of the list.
+     */
+    public List<Person> findByPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        String trimmedPrefix = prefix.trim();
+        if (trimmedPrefix.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // a person may match by more than one name word, and by phone number too, but is found once
+        Set<Person> found = new LinkedHashSet<>();
+        String key = toNameIndexKey(trimmedPrefix);
+        for (Map.Entry<String, Person> entry : nameWordIndex.tailMap(key, true).entrySet()) {
+            if (found.size() == limit || !entry.getKey().startsWith(key)) {
+                break;
+            }
+            found.add(entry.getValue());
+        }
+        for (Map.Entry<String, Phone> entry : phonePrefixIndex.tailMap(trimmedPrefix, true).entrySet()) {
+            if (found.size() == limit || !entry.getKey().startsWith(trimmedPrefix)) {
+                break;
+            }
+            found.add(phoneIndex.get(entry.getValue()));
+        }
+        return new ArrayList<>(found);
     }
 
     /**
@@ -46,6 +164,26 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list with a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Phone> phones = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !phones.add(person.getPhone())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        internalList.addAll(toAdd);
+        for (Person person : toAdd) {
+            addToIndexes(person);
+        }
     }
 
     /**
@@ -66,6 +204,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
     }
 
     /**
@@ -77,16 +217,19 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The list is filled with a single change, so this is the path to use when loading many persons at once.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
@@ -95,6 +238,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
     }
 
     /**
@@ -134,15 +278,85 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void addToIndexes(Person person) {
+        phoneIndex.put(person.getPhone(), person);
+        phonePrefixIndex.put(person.getPhone().value, person.getPhone());
+        for (String word : person.getName().fullName.split("\\s+")) {
+            nameIndex.computeIfAbsent(toNameIndexKey(word), unused -> new HashSet<>()).add(person.getPhone());
+            nameWordIndex.put(toNameWordIndexKey(word, person), person);
+        }
+        for (Tag tag : person.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> new HashSet<>()).add(person.getPhone());
+        }
+    }
+
+    private void removeFromIndexes(Person person) {
+        phoneIndex.remove(person.getPhone());
+        phonePrefixIndex.remove(person.getPhone().value);
+        for (String word : person.getName().fullName.split("\\s+")) {
+            nameWordIndex.remove(toNameWordIndexKey(word, person));
+            String key = toNameIndexKey(word);
+            Set<Phone> postings = nameIndex.get(key);
+            if (postings != null) {
+                postings.remove(person.getPhone());
+                if (postings.isEmpty()) {
+                    nameIndex.remove(key);
+                }
+            }
+        }
+        for (Tag tag : person.getTags()) {
+            Set<Phone> postings = tagIndex.get(tag);
+            if (postings != null) {
+                postings.remove(person.getPhone());
+                if (postings.isEmpty()) {
+                    tagIndex.remove(tag);
+                }
+            }
+        }
+    }
+
+    private void rebuildIndexes() {
+        phoneIndex.clear();
+        phonePrefixIndex.clear();
+        nameIndex.clear();
+        nameWordIndex.clear();
+        tagIndex.clear();
+        for (Person person : internalList) {
+            addToIndexes(person);
+        }
+    }
+
+    /**
+     * Folds the case of {@code word} one char at a time, the same way {@link String#equalsIgnoreCase(String)}
+     * compares chars, so that two words have the same key exactly when they are equal ignoring case.
+     */
+    private static String toNameIndexKey(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns the key of {@code person}'s name word {@code word} in the name word index. The separator sorts before
+     * any char of a name, so a word comes before the longer words it is a prefix of.
+     */
+    private static String toNameWordIndexKey(String word, Person person) {
+        return toNameIndexKey(word) + '\0' + person.getName().fullName + '\0' + person.getPhone().value;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Persons are the same exactly when their phones are equal, so this is a single pass over a set of phones.
+     *
+     * @see Person#isSamePerson(Person)
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Phone> seenPhones = new HashSet<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (!seenPhones.add(person.getPhone())) {
+                return false;
             }
         }
         return true;
@@ -3,15 +3,26 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags are few and shared by many persons, so equal tags obtained through {@link #of(String)} are the same
+ * instance. {@code Person} interns the tags it is given, so the tags held by persons can be compared by reference.
+ * The pool holds its tags weakly, so a tag that no person holds any more does not stay in it.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // each tag maps to a weak reference to itself, so that the map holds neither of them strongly
+    private static final Map<Tag, WeakReference<Tag>> POOL = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +36,24 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the given name, creating it on first use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        Tag tag = new Tag(tagName);
+        synchronized (POOL) {
+            WeakReference<Tag> pooledReference = POOL.get(tag);
+            Tag pooledTag = pooledReference != null ? pooledReference.get() : null;
+            if (pooledTag != null) {
+                return pooledTag;
+            }
+            POOL.put(tag, new WeakReference<>(tag));
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +43,14 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code addressBook}, which has had {@code changes} since the address book this storage last saved.
+     * A storage that can write only the persons and bookings that changed does so; the others save it in full.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException {
+        saveAddressBook(addressBook);
+    }
+
 }
@@ -0,0 +1,315 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ParallelRecordConverter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingIdSet;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book in a compact binary format and decodes it back.
+ *
+ * The format is, in order:
+ * <ol>
+ *     <li>the magic number {@code ABKB} and a format version;</li>
+ *     <li>a dictionary of every tag name, so that persons refer to tags by their index in it;</li>
+ *     <li>the persons, each with its fields, tag indexes and booking IDs;</li>
+ *     <li>the bookings, each with its ID, fields and timestamps;</li>
+ *     <li>a CRC32 of everything before it.</li>
+ * </ol>
+ * Counts, indexes and IDs are unsigned LEB128 varints, and strings are UTF-8 prefixed by their length in bytes.
+ * A person's booking IDs are sorted, so each is stored as its difference from the previous one.
+ * Timestamps are stored as minutes since the epoch in UTC, followed by the nanoseconds within the minute
+ * only for the few timestamps that have them, such as when a booking was made.
+ */
+class BinaryAddressBookCodec {
+
+    static final int MAGIC = 0x41424B42;
+    static final int VERSION = 1;
+
+    // longer strings or booking ID lists can only come from a corrupted length,
+    // and would otherwise be allocated before the checksum is verified
+    private static final int MAX_LENGTH = 1 << 20;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final Status[] STATUSES = Status.values();
+
+    /**
+     * Writes {@code addressBook} to {@code out}. The caller is responsible for buffering and closing {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+        data.writeInt(MAGIC);
+        writeVarInt(data, VERSION);
+
+        Map<Tag, Integer> tagIndexes = new HashMap<>();
+        List<Tag> tags = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                if (tagIndexes.putIfAbsent(tag, tags.size()) == null) {
+                    tags.add(tag);
+                }
+            }
+        }
+        writeVarInt(data, tags.size());
+        for (Tag tag : tags) {
+            writeString(data, tag.tagName);
+        }
+
+        writeVarInt(data, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            data.writeBoolean(person.getMemberStatus());
+            writeVarInt(data, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarInt(data, tagIndexes.get(tag));
+            }
+            BookingIdSet bookingIds = person.getBookingIDs();
+            writeVarInt(data, bookingIds.size());
+            int previousId = 0;
+            for (int i = 0; i < bookingIds.size(); i++) {
+                int bookingId = bookingIds.get(i);
+                writeVarInt(data, bookingId - previousId);
+                previousId = bookingId;
+            }
+        }
+
+        writeVarInt(data, addressBook.getBookingList().size());
+        for (Booking booking : addressBook.getBookingList()) {
+            writeVarInt(data, booking.getBookingId());
+            writeDateTime(data, booking.getBookingDateTime());
+            writeDateTime(data, booking.getBookingMadeDateTime());
+            data.writeByte(booking.getStatus().ordinal());
+            writeNullableString(data, booking.getRemarks());
+            writeVarInt(data, booking.getPax());
+        }
+
+        data.flush();
+        // the checksum is written past the checked stream, as it cannot cover itself
+        new DataOutputStream(out).writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Reads an address book written by {@link #write(ReadOnlyAddressBook, OutputStream)} from {@code in},
+     * which must hold nothing after it. The caller is responsible for buffering and closing {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read, is not in this format, or fails its checksum.
+     * @throws IllegalValueException if the data violates the model's constraints.
+     */
+    static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        CRC32 crc = new CRC32();
+        DataInputStream data = new DataInputStream(new CheckedInputStream(in, crc));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a binary address book file");
+        }
+        int version = readVarInt(data);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary address book version " + version);
+        }
+
+        int tagCount = readVarInt(data);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(data)));
+        }
+
+        // persons are checked by the same code as when loading JSON, so that the data rules stay in one place
+        int personCount = readVarInt(data);
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(data);
+            String phone = readString(data);
+            String email = readString(data);
+            String address = readString(data);
+            boolean isMember = data.readBoolean();
+            int personTagCount = readVarInt(data);
+            List<JsonAdaptedTag> personTags = new ArrayList<>(Math.min(personTagCount, tags.size()));
+            for (int j = 0; j < personTagCount; j++) {
+                int tagIndex = readVarInt(data);
+                if (tagIndex >= tags.size()) {
+                    throw new IOException("Tag index " + tagIndex + " is out of range");
+                }
+                personTags.add(tags.get(tagIndex));
+            }
+            int bookingIdCount = readVarInt(data);
+            if (bookingIdCount > MAX_LENGTH) {
+                throw new IOException(bookingIdCount + " booking IDs for one person is too many");
+            }
+            int[] bookingIds = new int[bookingIdCount];
+            int bookingId = 0;
+            for (int j = 0; j < bookingIdCount; j++) {
+                bookingId += readVarInt(data);
+                bookingIds[j] = bookingId;
+            }
+            persons.add(new JsonAdaptedPerson(name, phone, email, address, personTags, isMember, bookingIds));
+        }
+
+        int bookingCount = readVarInt(data);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < bookingCount; i++) {
+            bookings.add(readBooking(data));
+        }
+
+        long expectedCrc = crc.getValue();
+        if (new DataInputStream(in).readInt() != (int) expectedCrc) {
+            throw new IOException("Checksum mismatch, the file is corrupted");
+        }
+        if (in.read() != -1) {
+            throw new IOException("Unexpected data after the checksum");
+        }
+
+        List<Person> modelPersons = ParallelRecordConverter.convertAll(persons, JsonAdaptedPerson::toModelType);
+        return JsonSerializableAddressBook.toModelType(modelPersons, bookings);
+    }
+
+    private static Booking readBooking(DataInputStream data) throws IOException, IllegalValueException {
+        int bookingId = readVarInt(data);
+        LocalDateTime bookingDateTime = readDateTime(data);
+        LocalDateTime bookingMadeDateTime = readDateTime(data);
+        int statusIndex = data.readUnsignedByte();
+        String remarks = readNullableString(data);
+        int pax = readVarInt(data);
+
+        if (statusIndex >= STATUSES.length) {
+            throw new IllegalValueException(Status.MESSAGE_CONSTRAINTS);
+        }
+        if (remarks == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedBooking.MISSING_FIELD_MESSAGE_FORMAT,
+                    String.class.getSimpleName()));
+        }
+        if (!Booking.isValidPax(pax)) {
+            throw new IllegalValueException(JsonAdaptedBooking.PAX_CONSTRAINTS);
+        }
+        return new Booking(bookingId, bookingDateTime, bookingMadeDateTime, STATUSES[statusIndex], remarks, pax);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, as an unsigned LEB128 varint.
+     */
+    static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        writeVarLong(data, value);
+    }
+
+    static int readVarInt(DataInputStream data) throws IOException {
+        long value = readVarLong(data);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Varint " + value + " is out of range");
+        }
+        return (int) value;
+    }
+
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varints cannot be negative: " + value);
+        }
+        while (value >= 0x80) {
+            data.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint is too long");
+    }
+
+    /**
+     * Writes {@code dateTime} as a varint of its epoch minute, shifted left to flag whether the
+     * nanoseconds within the minute follow. The epoch minute is zigzag-encoded, so dates before 1970 stay short.
+     */
+    private static void writeDateTime(DataOutputStream data, LocalDateTime dateTime) throws IOException {
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        long epochMinute = Math.floorDiv(epochSecond, 60);
+        long nanosOfMinute = Math.floorMod(epochSecond, 60) * 1_000_000_000L + dateTime.getNano();
+        long zigzagMinute = (epochMinute << 1) ^ (epochMinute >> 63);
+        writeVarLong(data, zigzagMinute << 1 | (nanosOfMinute == 0 ? 0 : 1));
+        if (nanosOfMinute != 0) {
+            writeVarLong(data, nanosOfMinute);
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream data) throws IOException {
+        long header = readVarLong(data);
+        long zigzagMinute = header >>> 1;
+        long epochMinute = (zigzagMinute >>> 1) ^ -(zigzagMinute & 1);
+        long nanosOfMinute = (header & 1) == 0 ? 0 : readVarLong(data);
+        if (nanosOfMinute >= NANOS_PER_MINUTE) {
+            throw new IOException("Timestamp is out of range");
+        }
+        try {
+            return LocalDateTime.ofEpochSecond(epochMinute * 60 + nanosOfMinute / 1_000_000_000L,
+                    (int) (nanosOfMinute % 1_000_000_000L), ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IOException("Timestamp is out of range", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        return readString(data, readVarInt(data));
+    }
+
+    private static String readString(DataInputStream data, int length) throws IOException {
+        if (length > MAX_LENGTH) {
+            throw new IOException("String of " + length + " bytes is too long");
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code value} like a string, with its length offset by one so that zero can stand for null.
+     */
+    private static void writeNullableString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(data, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length + 1);
+        data.write(bytes);
+    }
+
+    private static String readNullableString(DataInputStream data) throws IOException {
+        int lengthPlusOne = readVarInt(data);
+        return lengthPlusOne == 0 ? null : readString(data, lengthPlusOne - 1);
+    }
+}
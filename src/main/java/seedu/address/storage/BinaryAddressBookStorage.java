@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The file is much smaller than the JSON one and faster to load and save, but is not human-readable,
+ * so it can be imported from and exported to the JSON format.
+ *
+ * @see BinaryAddressBookCodec
+ */
+public class BinaryAddressBookStorage implements JsonConvertibleStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            return Optional.of(BinaryAddressBookCodec.read(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> BinaryAddressBookCodec.write(addressBook, out));
+    }
+
+    /**
+     * Replaces the data in this storage with the address book in the JSON file at {@code jsonFilePath}.
+     *
+     * @return false if there is no file at {@code jsonFilePath} to import.
+     * @throws DataLoadingException if the JSON file could not be loaded.
+     * @throws IOException if there was any problem writing to this storage's file.
+     */
+    @Override
+    public boolean importFromJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Writes the data in this storage to the JSON file at {@code jsonFilePath}, replacing anything there.
+     *
+     * @return false if this storage has no data to export.
+     * @throws DataLoadingException if this storage's file could not be loaded.
+     * @throws IOException if there was any problem writing to the JSON file.
+     */
+    @Override
+    public boolean exportToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        // a fresh JSON storage writes a full file, and drops any journal left over from an older one
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    @Override
+    public Optional<FileTime> getLastSavedTime() throws IOException {
+        return FileUtil.getLastModifiedTime(filePath);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads data whose CRC32C is known in advance, as recorded in a {@link JsonAdaptedSnapshotHeader}, and checks the
+ * checksum as soon as the end of the stream is reached.
+ *
+ * The checksum is computed over the bytes as they are read instead of in a second pass over the file.
+ */
+class ChecksummedInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8 * 1024;
+
+    private final CRC32C checksum = new CRC32C();
+    private final long expectedChecksum;
+    private boolean isAtEnd;
+
+    ChecksummedInputStream(InputStream in, long expectedChecksum) {
+        super(in);
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (isAtEnd) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        int count = in.read(b, off, len);
+        if (count == -1) {
+            isAtEnd = true;
+            checkChecksum();
+            return -1;
+        }
+        checksum.update(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // skipped bytes must still be checksummed
+        byte[] buffer = new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int count = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (count == -1) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads the rest of the stream, so that its checksum is checked, after reading the data failed with
+     * {@code cause}. A corrupted file can fail in many ways before its end is reached, and the checksum is what
+     * tells those failures apart from data that was saved invalid.
+     *
+     * @throws IOException if the checksum does not match, with {@code cause} suppressed, or the rest of the stream
+     *     cannot be read.
+     */
+    void checkRest(Exception cause) throws IOException {
+        try {
+            skip(Long.MAX_VALUE);
+        } catch (IOException e) {
+            e.addSuppressed(cause);
+            throw e;
+        }
+    }
+
+    private void checkChecksum() throws IOException {
+        if (checksum.getValue() != expectedChecksum) {
+            throw new IOException("The data does not match its checksum");
+        }
+    }
+}
@@ -16,6 +16,8 @@ import seedu.address.model.person.Person;
 class JsonAdaptedBooking {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Booking's %s field is missing!";
+    public static final String PAX_CONSTRAINTS = "Pax should be a non-zero positive integer less than "
+            + (Booking.MAX_PAX + 1);
 
     private final Integer bookingId;
     private final String bookingDate;
@@ -98,9 +100,8 @@ class JsonAdaptedBooking {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Integer.class.getSimpleName()));
         }
-        if (pax < 1 || pax > 500) {
-            throw new IllegalValueException(String.format("Pax should be a non-zero positive integer less than 501",
-                    Integer.class.getSimpleName()));
+        if (!Booking.isValidPax(pax)) {
+            throw new IllegalValueException(PAX_CONSTRAINTS);
         }
         final int modelPax = pax;
 
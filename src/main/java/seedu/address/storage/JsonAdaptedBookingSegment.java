@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
+
+/**
+ * Jackson-friendly summary of the bookings of one month, as listed in a segment manifest.
+ */
+class JsonAdaptedBookingSegment {
+
+    public static final String MESSAGE_INVALID_MONTH = "Booking segment month should be in the form YYYY-MM";
+
+    private final String month;
+    private final int bookings;
+    private final int upcoming;
+    private final int maxBookingId;
+
+    /**
+     * Constructs a {@code JsonAdaptedBookingSegment} with the given segment details.
+     */
+    @JsonCreator
+    public JsonAdaptedBookingSegment(@JsonProperty("month") String month, @JsonProperty("bookings") int bookings,
+            @JsonProperty("upcoming") int upcoming, @JsonProperty("maxBookingId") int maxBookingId) {
+        this.month = month;
+        this.bookings = bookings;
+        this.upcoming = upcoming;
+        this.maxBookingId = maxBookingId;
+    }
+
+    /**
+     * Summarises the {@code bookings} of {@code month}.
+     */
+    public JsonAdaptedBookingSegment(YearMonth month, List<Booking> bookings) {
+        this.month = month.toString();
+        this.bookings = bookings.size();
+        this.upcoming = (int) bookings.stream().filter(booking -> booking.getStatus() == Status.UPCOMING).count();
+        this.maxBookingId = bookings.stream().mapToInt(Booking::getBookingId).max().orElse(0);
+    }
+
+    /**
+     * Returns the month of this segment.
+     *
+     * @throws IllegalValueException if the month is missing or malformed.
+     */
+    public YearMonth getMonth() throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_MONTH);
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_MONTH, e);
+        }
+    }
+
+    public int getUpcoming() {
+        return upcoming;
+    }
+
+    public int getMaxBookingId() {
+        return maxBookingId;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of one change recorded in a {@link JsonAddressBookJournal}.
+ * Exactly one of the fields is set: a person or booking that was added or edited, or the key of one that was removed.
+ */
+class JsonAdaptedJournalRecord {
+
+    private final JsonAdaptedPerson putPerson;
+    private final String removePerson;
+    private final JsonAdaptedBooking putBooking;
+    private final Integer removeBooking;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given change.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("putPerson") JsonAdaptedPerson putPerson,
+                                    @JsonProperty("removePerson") String removePerson,
+                                    @JsonProperty("putBooking") JsonAdaptedBooking putBooking,
+                                    @JsonProperty("removeBooking") Integer removeBooking) {
+        this.putPerson = putPerson;
+        this.removePerson = removePerson;
+        this.putBooking = putBooking;
+        this.removeBooking = removeBooking;
+    }
+
+    /**
+     * Applies this change to the persons and bookings read so far by {@code reader}.
+     * An edited person or booking keeps its position; an added one goes last.
+     *
+     * @throws IllegalValueException if the added or edited person or booking violates the model's constraints.
+     */
+    void applyTo(JsonAddressBookReader reader) throws IllegalValueException {
+        if (putPerson != null) {
+            reader.putPerson(putPerson.toModelType());
+        }
+        if (removePerson != null) {
+            reader.removePerson(removePerson);
+        }
+        if (putBooking != null) {
+            reader.putBooking(putBooking.toModelType());
+        }
+        if (removeBooking != null) {
+            reader.removeBooking(removeBooking);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.booking.BookingIdSet;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -28,7 +29,7 @@ class JsonAdaptedPerson {
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
-    private final List<Integer> bookingIDs = new ArrayList<>();
+    private final int[] bookingIDs;
     private final boolean isMember;
 
     /**
@@ -38,7 +39,7 @@ class JsonAdaptedPerson {
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("isMember") boolean isMember,
-            @JsonProperty("bookingIds") List<Integer> bookingIDs) {
+            @JsonProperty("bookingIds") int[] bookingIDs) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -47,9 +48,7 @@ class JsonAdaptedPerson {
         if (tags != null) {
             this.tags.addAll(tags);
         }
-        if (bookingIDs != null) {
-            this.bookingIDs.addAll(bookingIDs);
-        }
+        this.bookingIDs = (bookingIDs != null) ? bookingIDs : new int[0];
     }
 
     /**
@@ -63,7 +62,7 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .toList());
-        bookingIDs.addAll(source.getBookingIDs());
+        bookingIDs = source.getBookingIDs().toArray();
         isMember = source.getMemberStatus();
     }
 
@@ -110,7 +109,7 @@ class JsonAdaptedPerson {
         }
         final Address modelAddress = new Address(address);
 
-        final Set<Integer> modelBookingIDs = new HashSet<>(bookingIDs);
+        final BookingIdSet modelBookingIDs = BookingIdSet.of(bookingIDs);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         if (isMember) {
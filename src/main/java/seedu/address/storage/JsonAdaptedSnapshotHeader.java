@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Jackson-friendly header of a snapshot file, written to a file of its own next to the snapshot, so that the
+ * snapshot itself stays plain JSON that can be edited by hand.
+ * It holds the version of the snapshot format, how many persons and bookings the snapshot holds, and the CRC32C of
+ * the snapshot, so that a file that was damaged, cut short or written by a newer version is recognised as such.
+ */
+class JsonAdaptedSnapshotHeader {
+
+    static final int VERSION = 1;
+    static final String HEADER_FILE_SUFFIX = ".header";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedSnapshotHeader.class);
+
+    private final int snapshotVersion;
+    private final int persons;
+    private final int bookings;
+    private final String crc32c;
+
+    /**
+     * Constructs a {@code JsonAdaptedSnapshotHeader} with the given header details.
+     */
+    @JsonCreator
+    public JsonAdaptedSnapshotHeader(@JsonProperty("snapshotVersion") int snapshotVersion,
+            @JsonProperty("persons") int persons, @JsonProperty("bookings") int bookings,
+            @JsonProperty("crc32c") String crc32c) {
+        this.snapshotVersion = snapshotVersion;
+        this.persons = persons;
+        this.bookings = bookings;
+        this.crc32c = crc32c;
+    }
+
+    /**
+     * Constructs the header of a snapshot in the current format holding {@code persons} persons and
+     * {@code bookings} bookings, whose contents have the CRC32C {@code checksum}.
+     */
+    public JsonAdaptedSnapshotHeader(int persons, int bookings, long checksum) {
+        this(VERSION, persons, bookings, String.format("%08x", checksum));
+    }
+
+    /**
+     * Returns the path of the header kept for the snapshot at {@code snapshotPath}.
+     */
+    static Path getHeaderPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + HEADER_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the header of the snapshot at {@code snapshotPath}, or {@code Optional.empty()} if the snapshot has
+     * none, or was changed after its header was written, as when it is edited by hand.
+     *
+     * @throws IOException if the header cannot be read or parsed.
+     */
+    static Optional<JsonAdaptedSnapshotHeader> readFor(Path snapshotPath) throws IOException {
+        Path headerPath = getHeaderPath(snapshotPath);
+        if (!Files.exists(headerPath)) {
+            return Optional.empty();
+        }
+        // the header is written after the snapshot, so a snapshot modified later was not written with it
+        if (Files.getLastModifiedTime(snapshotPath).compareTo(Files.getLastModifiedTime(headerPath)) > 0) {
+            logger.info(snapshotPath + " was changed after it was saved, so it is read without its checksum");
+            return Optional.empty();
+        }
+        return Optional.of(JsonUtil.fromJsonString(Files.readString(headerPath, StandardCharsets.UTF_8),
+                JsonAdaptedSnapshotHeader.class));
+    }
+
+    /**
+     * Writes this header for the snapshot at {@code snapshotPath}, which must already be in place.
+     */
+    void writeFor(Path snapshotPath) throws IOException {
+        String header = JsonUtil.toCompactJsonString(this) + "\n";
+        FileUtil.writeAtomically(getHeaderPath(snapshotPath), out ->
+                out.write(header.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public int getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public int getPersons() {
+        return persons;
+    }
+
+    public int getBookings() {
+        return bookings;
+    }
+
+    public String getCrc32c() {
+        return crc32c;
+    }
+
+    /**
+     * Returns the CRC32C of the snapshot.
+     *
+     * @throws IOException if the checksum recorded in the header is not a valid one.
+     */
+    @JsonIgnore
+    long getChecksum() throws IOException {
+        if (crc32c == null) {
+            throw new IOException("The snapshot header holds no checksum");
+        }
+        try {
+            return Long.parseLong(crc32c, 16);
+        } catch (NumberFormatException e) {
+            throw new IOException("The snapshot header holds an invalid checksum: " + crc32c, e);
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Saves an address book as a JSON snapshot file plus an append-only journal of the changes made since.
+ *
+ * Each save compares the address book with the last saved one and appends a record for every person and booking
+ * that was added, edited or removed, one compact JSON object per line, then forces the journal to disk.
+ * Only when the journal grows larger than the snapshot, and than {@link #MIN_COMPACTION_SIZE} bytes by default,
+ * is the snapshot rewritten and the journal deleted. Reading loads the snapshot and replays the journal over it.
+ *
+ * When consecutive saves are {@link AddressBookSnapshot}s, a person or booking that is the same object as in the
+ * last save has not changed, so its JSON from that save is reused instead of being serialized again. When a save is
+ * also given the changes since the last one, only the persons and bookings named in them are serialized and
+ * compared, so that a save costs as much as the change rather than as the address book.
+ *
+ * Snapshots carry a checksum in a header file next to them. When the snapshot is rewritten, the previous one is
+ * kept with its header and journal as a rotated snapshot, and the last {@link #ROTATED_SNAPSHOTS} are kept.
+ * If the snapshot turns out to be corrupted when it is read, the newest rotated snapshot that is intact is read
+ * instead, and the journals of it and of every newer snapshot are replayed over it, which rebuilds the address book
+ * as it was last saved.
+ *
+ * A crash while a record is appended can leave the journal ending part way through a line. That record is ignored
+ * when the journal is read, and the next save rewrites the snapshot instead of appending after it.
+ */
+class JsonAddressBookJournal {
+
+    static final String JOURNAL_FILE_SUFFIX = ".journal";
+    static final long MIN_COMPACTION_SIZE = 64 * 1024;
+    static final int ROTATED_SNAPSHOTS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookJournal.class);
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final long minCompactionSize;
+    private final boolean isPrettyJson;
+
+    // the saved persons and bookings as compact JSON, keyed by phone and booking ID; null until known
+    private Map<String, String> savedPersons;
+    private Map<Integer, String> savedBookings;
+    // the immutable persons and bookings that the maps above were serialized from; empty if they were mutable
+    private Map<String, Person> savedPersonSources = new HashMap<>();
+    private Map<Integer, Booking> savedBookingSources = new HashMap<>();
+    // a copy of the address book read from storage, turned into the maps above on the first save
+    private AddressBookSnapshot readAddressBook;
+    // whether the snapshot could not be read, so that the next save replaces it instead of adding to its journal
+    private boolean isSnapshotCorrupted;
+    // whether the journal ends part way through a record, so that the next save does not append after it
+    private boolean isJournalCutShort;
+
+    JsonAddressBookJournal(Path snapshotPath) {
+        this(snapshotPath, MIN_COMPACTION_SIZE);
+    }
+
+    /**
+     * Creates a journal that is not folded into the snapshot before it is at least {@code minCompactionSize} bytes.
+     */
+    JsonAddressBookJournal(Path snapshotPath, long minCompactionSize) {
+        this(snapshotPath, minCompactionSize, true);
+    }
+
+    /**
+     * Creates a journal like {@link #JsonAddressBookJournal(Path, long)} whose snapshot is indented for reading
+     * if {@code isPrettyJson} is true, or written compactly otherwise.
+     */
+    JsonAddressBookJournal(Path snapshotPath, long minCompactionSize, boolean isPrettyJson) {
+        requireNonNull(snapshotPath);
+        this.snapshotPath = snapshotPath;
+        this.journalPath = getJournalPath(snapshotPath);
+        this.minCompactionSize = minCompactionSize;
+        this.isPrettyJson = isPrettyJson;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code snapshotPath}.
+     */
+    static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the snapshot kept {@code generation} rewrites before the one at {@code snapshotPath},
+     * which is {@code snapshotPath} itself for generation 0.
+     */
+    static Path getRotatedSnapshotPath(Path snapshotPath, int generation) {
+        if (generation == 0) {
+            return snapshotPath;
+        }
+        String fileName = snapshotPath.getFileName().toString();
+        if (!FileUtil.isCompressed(snapshotPath)) {
+            return snapshotPath.resolveSibling(fileName + "." + generation);
+        }
+        // a compressed snapshot keeps its suffix, so that it is still read as compressed
+        int suffixStart = fileName.lastIndexOf('.');
+        return snapshotPath.resolveSibling(fileName.substring(0, suffixStart) + "." + generation
+                + fileName.substring(suffixStart));
+    }
+
+    Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    /**
+     * Returns the address book in the snapshot with the journal replayed over it,
+     * or {@code Optional.empty()} if neither file exists.
+     * The snapshot is streamed record by record, and the journal line by line.
+     * If the snapshot cannot be read, it is recovered from the rotated snapshots.
+     *
+     * @throws DataLoadingException if no snapshot can be read, or a journal cannot be read or parsed.
+     * @throws IllegalValueException if the data read violates the model's constraints.
+     */
+    Optional<ReadOnlyAddressBook> read() throws DataLoadingException, IllegalValueException {
+        // the journals to replay over the snapshot being read, the oldest first
+        Deque<Path> journals = new ArrayDeque<>();
+        journals.add(journalPath);
+        IOException snapshotError = null;
+        for (int generation = 0; generation <= ROTATED_SNAPSHOTS; generation++) {
+            Path path = getRotatedSnapshotPath(snapshotPath, generation);
+            if (generation > 0) {
+                journals.addFirst(getJournalPath(path));
+            }
+            if (!Files.exists(path)) {
+                continue;
+            }
+
+            logger.info("JSON file " + path + " found.");
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            try {
+                reader.readFile(path);
+            } catch (IOException e) {
+                logger.warning("Error reading from jsonFile file " + path + ": " + e);
+                if (snapshotError == null) {
+                    snapshotError = e;
+                }
+                continue;
+            }
+            if (generation > 0) {
+                logger.warning("Recovering the address book from the rotated snapshot " + path);
+                isSnapshotCorrupted = true;
+            }
+            for (Path journal : journals) {
+                // the journal of the snapshot, the only one appended to later, is replayed last
+                isJournalCutShort = replayJournal(reader, journal);
+            }
+            return Optional.of(toAddressBook(reader));
+        }
+
+        if (snapshotError != null) {
+            throw new DataLoadingException(snapshotError);
+        }
+        if (!Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+        // a journal without any snapshot holds every change since the address book was empty
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        isJournalCutShort = replayJournal(reader, journalPath);
+        return Optional.of(toAddressBook(reader));
+    }
+
+    private AddressBook toAddressBook(JsonAddressBookReader reader) throws IllegalValueException {
+        AddressBook addressBook = reader.toModelType();
+        readAddressBook = new AddressBookSnapshot(addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code reader}.
+     * Returns true if the journal does not end with a complete line.
+     */
+    private boolean replayJournal(JsonAddressBookReader reader, Path journalPath)
+            throws DataLoadingException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+        int count = 0;
+        try (BufferedReader records = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String record = records.readLine();
+            while (record != null) {
+                String nextRecord = records.readLine();
+                try {
+                    JsonUtil.fromJsonString(record, JsonAdaptedJournalRecord.class).applyTo(reader);
+                    count++;
+                } catch (JsonProcessingException e) {
+                    if (nextRecord != null) {
+                        throw new DataLoadingException(e);
+                    }
+                    // the last record may have been cut short by a crash while it was being appended
+                    logger.warning("Ignoring incomplete last record in " + journalPath);
+                }
+                record = nextRecord;
+            }
+            logger.info("Replayed " + count + " journal records from " + journalPath);
+            return !endsWithNewline(journalPath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static boolean endsWithNewline(Path path) throws IOException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (file.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            file.read(lastByte, file.size() - 1);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Saves {@code addressBook}, appending its changes since the last save to the journal.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void save(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        boolean isImmutable = addressBook instanceof AddressBookSnapshot;
+        Map<String, String> persons = new LinkedHashMap<>();
+        Map<String, Person> personSources = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            String phone = person.getPhone().value;
+            String json = savedPersonSources.get(phone) == person ? savedPersons.get(phone) : null;
+            persons.put(phone, json != null ? json : JsonAddressBookWriter.toCompactJson(person));
+            if (isImmutable) {
+                personSources.put(phone, person);
+            }
+        }
+        Map<Integer, String> bookings = new LinkedHashMap<>();
+        Map<Integer, Booking> bookingSources = new HashMap<>();
+        for (Booking booking : addressBook.getBookingList()) {
+            int bookingId = booking.getBookingId();
+            String json = savedBookingSources.get(bookingId) == booking ? savedBookings.get(bookingId) : null;
+            bookings.put(bookingId, json != null ? json : JsonAddressBookWriter.toCompactJson(booking));
+            if (isImmutable) {
+                bookingSources.put(bookingId, booking);
+            }
+        }
+
+        if (savedPersons == null && readAddressBook != null) {
+            rememberReadAddressBook();
+        }
+        if (savedPersons == null || !Files.exists(snapshotPath)) {
+            // nothing to compare with, so the journal cannot describe the change
+            replaceSnapshot(addressBook);
+        } else if (isJournalCutShort) {
+            // records appended after the incomplete one would join it into a line that cannot be read
+            replaceSnapshot(addressBook);
+        } else {
+            appendChanges(persons, bookings);
+            if (isSnapshotCorrupted || Files.exists(journalPath)
+                    && Files.size(journalPath) > Math.max(minCompactionSize, Files.size(snapshotPath))) {
+                replaceSnapshot(addressBook);
+            }
+        }
+
+        savedPersons = persons;
+        savedBookings = bookings;
+        savedPersonSources = personSources;
+        savedBookingSources = bookingSources;
+    }
+
+    /**
+     * Saves {@code addressBook}, which has had {@code changes} since the last save, appending those changes to the
+     * journal. Falls back to {@link #save(ReadOnlyAddressBook)} when the changes cannot be appended on their own.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void save(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException {
+        requireAllNonNull(addressBook, changes);
+        if (savedPersons == null && readAddressBook != null) {
+            rememberReadAddressBook();
+        }
+        if (changes.isAllChanged() || !(addressBook instanceof AddressBookSnapshot) || savedPersons == null
+                || isSnapshotCorrupted || isJournalCutShort || !Files.exists(snapshotPath)) {
+            save(addressBook);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = (AddressBookSnapshot) addressBook;
+        StringBuilder removals = new StringBuilder();
+        StringBuilder records = new StringBuilder();
+        Map<String, Person> changedPersons = new HashMap<>();
+        Map<String, String> changedPersonJson = new HashMap<>();
+        for (Phone phone : changes.getChangedPersons()) {
+            String key = phone.value;
+            Person person = snapshot.getPerson(phone);
+            String json = person == null ? null : JsonAddressBookWriter.toCompactJson(person);
+            if (json == null && savedPersons.containsKey(key)) {
+                appendRecord(removals, "removePerson", JsonUtil.toCompactJsonString(key));
+            } else if (json != null && !json.equals(savedPersons.get(key))) {
+                appendRecord(records, "putPerson", json);
+            }
+            changedPersons.put(key, person);
+            changedPersonJson.put(key, json);
+        }
+        Map<Integer, Booking> changedBookings = new HashMap<>();
+        Map<Integer, String> changedBookingJson = new HashMap<>();
+        for (int bookingId : changes.getChangedBookings()) {
+            Booking booking = snapshot.getBooking(bookingId);
+            String json = booking == null ? null : JsonAddressBookWriter.toCompactJson(booking);
+            if (json == null && savedBookings.containsKey(bookingId)) {
+                appendRecord(removals, "removeBooking", String.valueOf(bookingId));
+            } else if (json != null && !json.equals(savedBookings.get(bookingId))) {
+                appendRecord(records, "putBooking", json);
+            }
+            changedBookings.put(bookingId, booking);
+            changedBookingJson.put(bookingId, json);
+        }
+        writeRecords(removals.append(records));
+
+        // the saved state is only updated once the records are on disk, so that a failed save is retried in full
+        changedPersonJson.forEach((phone, json) -> putOrRemove(savedPersons, phone, json));
+        changedPersons.forEach((phone, person) -> putOrRemove(savedPersonSources, phone, person));
+        changedBookingJson.forEach((bookingId, json) -> putOrRemove(savedBookings, bookingId, json));
+        changedBookings.forEach((bookingId, booking) -> putOrRemove(savedBookingSources, bookingId, booking));
+
+        if (Files.exists(journalPath)
+                && Files.size(journalPath) > Math.max(minCompactionSize, Files.size(snapshotPath))) {
+            replaceSnapshot(addressBook);
+        }
+    }
+
+    private static <K, V> void putOrRemove(Map<K, V> map, K key, V value) {
+        if (value == null) {
+            map.remove(key);
+        } else {
+            map.put(key, value);
+        }
+    }
+
+    private void rememberReadAddressBook() throws IOException {
+        savedPersons = new LinkedHashMap<>();
+        for (Person person : readAddressBook.getPersonList()) {
+            savedPersons.put(person.getPhone().value, JsonAddressBookWriter.toCompactJson(person));
+        }
+        savedBookings = new LinkedHashMap<>();
+        for (Booking booking : readAddressBook.getBookingList()) {
+            savedBookings.put(booking.getBookingId(), JsonAddressBookWriter.toCompactJson(booking));
+        }
+        readAddressBook = null;
+    }
+
+    private void appendChanges(Map<String, String> persons, Map<Integer, String> bookings) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (String phone : savedPersons.keySet()) {
+            if (!persons.containsKey(phone)) {
+                appendRecord(records, "removePerson", JsonUtil.toCompactJsonString(phone));
+            }
+        }
+        for (Map.Entry<String, String> person : persons.entrySet()) {
+            if (!person.getValue().equals(savedPersons.get(person.getKey()))) {
+                appendRecord(records, "putPerson", person.getValue());
+            }
+        }
+        for (Integer bookingId : savedBookings.keySet()) {
+            if (!bookings.containsKey(bookingId)) {
+                appendRecord(records, "removeBooking", String.valueOf(bookingId));
+            }
+        }
+        for (Map.Entry<Integer, String> booking : bookings.entrySet()) {
+            if (!booking.getValue().equals(savedBookings.get(booking.getKey()))) {
+                appendRecord(records, "putBooking", booking.getValue());
+            }
+        }
+        writeRecords(records);
+    }
+
+    /**
+     * Appends {@code records} to the journal and forces them to disk.
+     */
+    private void writeRecords(CharSequence records) throws IOException {
+        if (records.length() == 0) {
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel journal = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+
+    private static void appendRecord(StringBuilder records, String field, String json) {
+        records.append("{\"").append(field).append("\":").append(json).append("}\n");
+    }
+
+    private void replaceSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        // the snapshot and its journal are kept as the newest rotated snapshot, so a crash before the new snapshot
+        // is in place leaves the address book to be recovered from them
+        rotateSnapshots();
+        // written to a temporary file and renamed into place, so a crash leaves the old snapshot intact
+        JsonAddressBookWriter.writeSnapshot(snapshotPath, addressBook.getPersonList(), addressBook.getBookingList(),
+                isPrettyJson);
+        // a journal that had no snapshot to be rotated with is already part of the new snapshot
+        Files.deleteIfExists(journalPath);
+        isSnapshotCorrupted = false;
+        isJournalCutShort = false;
+    }
+
+    /**
+     * Moves each snapshot, and its header and journal, one generation older, dropping the oldest.
+     */
+    private void rotateSnapshots() throws IOException {
+        for (int generation = ROTATED_SNAPSHOTS; generation > 0; generation--) {
+            Path newer = getRotatedSnapshotPath(snapshotPath, generation - 1);
+            Path older = getRotatedSnapshotPath(snapshotPath, generation);
+            if (!Files.exists(newer)) {
+                continue;
+            }
+            // in this order, a crash part way never leaves a snapshot with the header or journal of another
+            Files.deleteIfExists(getJournalPath(older));
+            Files.deleteIfExists(JsonAdaptedSnapshotHeader.getHeaderPath(older));
+            Files.move(newer, older, StandardCopyOption.REPLACE_EXISTING);
+            moveIfExists(JsonAdaptedSnapshotHeader.getHeaderPath(newer),
+                    JsonAdaptedSnapshotHeader.getHeaderPath(older));
+            moveIfExists(getJournalPath(newer), getJournalPath(older));
+        }
+    }
+
+    private static void moveIfExists(Path source, Path target) throws IOException {
+        if (Files.exists(source)) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ParallelRecordConverter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book saved as JSON one person or booking at a time, converting the records into the model
+ * on other threads while parsing continues. Neither the whole file nor a {@link JsonSerializableAddressBook}
+ * of it is ever held in memory, only the model objects being built and a few chunks of parsed records.
+ *
+ * Changes recorded in a journal can be applied over what was read before the address book is assembled.
+ */
+class JsonAddressBookReader {
+
+    // keyed by phone and booking ID, in the order they were first read
+    private final Map<String, Person> persons = new LinkedHashMap<>();
+    private final Map<Integer, Booking> bookings = new LinkedHashMap<>();
+
+    /**
+     * Reads the persons and bookings in the JSON file at {@code filePath}. Fields other than {@code persons}
+     * and {@code bookings} are ignored, as when binding the file to {@link JsonSerializableAddressBook}.
+     *
+     * If the file is a snapshot written by {@link JsonAddressBookWriter#writeSnapshot}, its checksum is checked
+     * while it is read, and its header must match what was read. A file without a header, or changed since its
+     * header was written, is read unchecked.
+     *
+     * @throws IOException if the file cannot be read, is not valid JSON, or fails its checksum or header.
+     * @throws IllegalValueException if a record violates the model's constraints, or is a duplicate.
+     */
+    void readFile(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        Optional<JsonAdaptedSnapshotHeader> header = JsonAdaptedSnapshotHeader.readFor(filePath);
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            if (header.isEmpty()) {
+                // written before snapshots had headers, or edited by hand
+                try (JsonParser parser = JsonUtil.createParser(in)) {
+                    readAddressBook(parser, filePath);
+                    checkAtEnd(parser, filePath);
+                }
+                return;
+            }
+
+            ChecksummedInputStream checkedIn = new ChecksummedInputStream(in, header.get().getChecksum());
+            try (JsonParser parser = JsonUtil.createParser(checkedIn)) {
+                readSnapshot(parser, header.get(), filePath);
+            } catch (IOException | IllegalValueException e) {
+                checkedIn.checkRest(e);
+                throw e;
+            }
+        }
+    }
+
+    private void readSnapshot(JsonParser parser, JsonAdaptedSnapshotHeader header, Path filePath)
+            throws IOException, IllegalValueException {
+        if (header.getSnapshotVersion() > JsonAdaptedSnapshotHeader.VERSION) {
+            throw new JsonParseException(parser, filePath + " was written by a newer version, in snapshot format "
+                    + header.getSnapshotVersion());
+        }
+
+        int personCount = persons.size();
+        int bookingCount = bookings.size();
+        readAddressBook(parser, filePath);
+        // reaching the end of the file checks its checksum
+        checkAtEnd(parser, filePath);
+        if (persons.size() - personCount != header.getPersons()
+                || bookings.size() - bookingCount != header.getBookings()) {
+            throw new JsonParseException(parser, filePath + " holds " + (persons.size() - personCount)
+                    + " persons and " + (bookings.size() - bookingCount) + " bookings, but its header lists "
+                    + header.getPersons() + " and " + header.getBookings());
+        }
+    }
+
+    private static void checkAtEnd(JsonParser parser, Path filePath) throws IOException {
+        if (parser.nextToken() != null) {
+            throw new JsonParseException(parser, "Unexpected data after the address book in " + filePath);
+        }
+    }
+
+    private void readAddressBook(JsonParser parser, Path filePath) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object in " + filePath);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("persons") && value == JsonToken.START_ARRAY) {
+                ParallelRecordConverter<JsonAdaptedPerson, Person> converter =
+                        new ParallelRecordConverter<>(JsonAdaptedPerson::toModelType, this::addPerson);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    converter.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                }
+                converter.finish();
+            } else if (field.equals("bookings") && value == JsonToken.START_ARRAY) {
+                ParallelRecordConverter<JsonAdaptedBooking, Booking> converter =
+                        new ParallelRecordConverter<>(JsonAdaptedBooking::toModelType, this::addBooking);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    converter.add(JsonUtil.readValue(parser, JsonAdaptedBooking.class));
+                }
+                converter.finish();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void addPerson(Person person) throws IllegalValueException {
+        if (persons.putIfAbsent(person.getPhone().value, person) != null) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    private void addBooking(Booking booking) throws IllegalValueException {
+        if (bookings.putIfAbsent(booking.getBookingId(), booking) != null) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_BOOKING);
+        }
+    }
+
+    /**
+     * Adds {@code person}, or replaces the person read earlier with the same phone number in place.
+     */
+    void putPerson(Person person) {
+        persons.put(person.getPhone().value, person);
+    }
+
+    /**
+     * Removes the person with phone number {@code phone}, if one was read.
+     */
+    void removePerson(String phone) {
+        persons.remove(phone);
+    }
+
+    /**
+     * Adds {@code booking}, or replaces the booking read earlier with the same ID in place.
+     */
+    void putBooking(Booking booking) {
+        bookings.put(booking.getBookingId(), booking);
+    }
+
+    /**
+     * Removes the booking with {@code bookingId}, if one was read.
+     */
+    void removeBooking(int bookingId) {
+        bookings.remove(bookingId);
+    }
+
+    /**
+     * Returns the bookings read so far, which are not linked to any person.
+     */
+    List<Booking> getBookings() {
+        return new ArrayList<>(bookings.values());
+    }
+
+    /**
+     * Returns the address book holding everything read so far.
+     *
+     * @throws IllegalValueException if a person holds the ID of a booking that was not read.
+     * @see JsonSerializableAddressBook#toModelType(java.util.List, java.util.Collection)
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        return JsonSerializableAddressBook.toModelType(new ArrayList<>(persons.values()), bookings.values());
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but persons may hold the IDs of bookings that were not read.
+     *
+     * @see JsonSerializableAddressBook#toModelType(java.util.List, java.util.Collection, int)
+     */
+    AddressBook toModelType(int maxUnreadBookingId) throws IllegalValueException {
+        return JsonSerializableAddressBook.toModelType(new ArrayList<>(persons.values()), bookings.values(),
+                maxUnreadBookingId);
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,26 +13,50 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Changes are appended to a journal next to the file, which is folded back into the file once it grows large.
+ *
+ * @see JsonAddressBookJournal
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyJson;
+    private JsonAddressBookJournal journal;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that indents the file for reading if {@code isPrettyJson} is
+     * true, or writes it compactly otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyJson) {
         this.filePath = filePath;
+        this.isPrettyJson = isPrettyJson;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the last time data was saved to this storage, counting the changes appended to its journal, or
+     * {@code Optional.empty()} if it holds no data yet.
+     *
+     * @throws IOException if the time cannot be read.
+     */
+    public Optional<FileTime> getLastSavedTime() throws IOException {
+        return FileUtil.getLastModifiedTime(filePath, JsonAddressBookJournal.getJournalPath(filePath));
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,14 +71,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return getJournal(filePath).read();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +93,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        getJournal(filePath).save(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, AddressBookChanges changes) throws IOException {
+        requireAllNonNull(addressBook, changes);
+        getJournal(filePath).save(addressBook, changes);
+    }
+
+    /**
+     * Returns the journal for the file at {@code filePath}, keeping what it knows about the last save
+     * as long as the same file is used.
+     */
+    private synchronized JsonAddressBookJournal getJournal(Path filePath) {
+        if (journal == null || !journal.getSnapshotPath().equals(filePath)) {
+            journal = new JsonAddressBookJournal(filePath, JsonAddressBookJournal.MIN_COMPACTION_SIZE, isPrettyJson);
+        }
+        return journal;
     }
 
 }
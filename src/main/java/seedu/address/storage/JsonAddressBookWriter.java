@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingIdSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons and bookings as JSON straight from the model with a {@code JsonGenerator}, without creating a
+ * {@link JsonAdaptedPerson} or {@link JsonAdaptedBooking} for each of them and binding it by reflection.
+ *
+ * The output has the same fields, in the same order, as binding {@link JsonSerializableAddressBook} does,
+ * so it is read back through the adapted classes as before.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes an address book of {@code persons} and {@code bookings} to {@code out}, indented if {@code isPretty}.
+     * {@code out} is left open.
+     */
+    static void write(OutputStream out, Collection<Person> persons, Collection<Booking> bookings, boolean isPretty)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPretty)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : persons) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("bookings");
+            for (Booking booking : bookings) {
+                writeBooking(generator, booking);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code persons} and {@code bookings} to {@code snapshotPath}, replacing the file
+     * atomically: the address book as {@link #write} writes it, followed by a {@link JsonAdaptedSnapshotHeader} in a
+     * file next to it, holding the CRC32C of the snapshot that {@link ChecksummedInputStream} checks.
+     */
+    static void writeSnapshot(Path snapshotPath, Collection<Person> persons, Collection<Booking> bookings,
+            boolean isPretty) throws IOException {
+        // a crash before the new header is written then leaves the new snapshot unchecked, not failing the old one
+        Files.deleteIfExists(JsonAdaptedSnapshotHeader.getHeaderPath(snapshotPath));
+        CRC32C checksum = new CRC32C();
+        FileUtil.writeAtomically(snapshotPath, out ->
+                write(new CheckedOutputStream(out, checksum), persons, bookings, isPretty));
+        new JsonAdaptedSnapshotHeader(persons.size(), bookings.size(), checksum.getValue()).writeFor(snapshotPath);
+    }
+
+    /**
+     * Returns {@code person} as JSON on a single line.
+     */
+    static String toCompactJson(Person person) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = JsonUtil.createGenerator(json)) {
+            writePerson(generator, person);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Returns {@code booking} as JSON on a single line.
+     */
+    static String toCompactJson(Booking booking) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = JsonUtil.createGenerator(json)) {
+            writeBooking(generator, booking);
+        }
+        return json.toString();
+    }
+
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeBooleanField("isMember", person.getMemberStatus());
+        // the field name JsonAdaptedPerson has always been saved with
+        generator.writeArrayFieldStart("bookingIDs");
+        BookingIdSet bookingIds = person.getBookingIDs();
+        for (int i = 0; i < bookingIds.size(); i++) {
+            generator.writeNumber(bookingIds.get(i));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeBooking(JsonGenerator generator, Booking booking) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("bookingId", booking.getBookingId());
+        generator.writeStringField("bookingDate", booking.getBookingDateTime().toString());
+        generator.writeStringField("bookingMadeDate", booking.getBookingMadeDateTime().toString());
+        generator.writeStringField("status", booking.getStatus().toString());
+        generator.writeStringField("remarks", booking.getRemarks());
+        generator.writeNumberField("pax", booking.getPax());
+        generator.writeEndObject();
+    }
+}
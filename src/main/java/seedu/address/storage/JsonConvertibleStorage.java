@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Represents a storage for {@link seedu.address.model.AddressBook} in a format other than JSON, whose data can be
+ * imported from and exported to a JSON data file, so that the app can switch between the two formats.
+ */
+public interface JsonConvertibleStorage extends AddressBookStorage {
+
+    /**
+     * Replaces the data in this storage with the address book in the JSON file at {@code jsonFilePath}.
+     *
+     * @return false if there is no file at {@code jsonFilePath} to import.
+     * @throws DataLoadingException if the JSON file could not be loaded.
+     * @throws IOException if there was any problem writing to this storage.
+     */
+    boolean importFromJson(Path jsonFilePath) throws DataLoadingException, IOException;
+
+    /**
+     * Writes the data in this storage to the JSON file at {@code jsonFilePath}, replacing anything there.
+     *
+     * @return false if this storage has no data to export.
+     * @throws DataLoadingException if this storage's data could not be loaded.
+     * @throws IOException if there was any problem writing to the JSON file.
+     */
+    boolean exportToJson(Path jsonFilePath) throws DataLoadingException, IOException;
+
+    /**
+     * Returns the last time data was saved to this storage, or {@code Optional.empty()} if it holds no data yet.
+     *
+     * @throws IOException if the time cannot be read.
+     */
+    Optional<FileTime> getLastSavedTime() throws IOException;
+}
@@ -1,19 +1,26 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ParallelRecordConverter;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.booking.Booking;
-import seedu.address.model.booking.UniqueBookingList;
+import seedu.address.model.booking.BookingIdSet;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,6 +31,13 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_BOOKING = "Bookings list contains duplicate booking(s).";
 
+    // the value of maxUnreadBookingId when every booking was read
+    static final int NO_UNREAD_BOOKINGS = -1;
+
+    private static final int MAX_LOGGED_IDS = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedBooking> bookings = new ArrayList<>();
 
@@ -37,7 +51,6 @@ class JsonSerializableAddressBook {
         this.bookings.addAll(bookings);
     }
 
-
     /**
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
      *
@@ -54,48 +67,94 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<Person> modelPersons = ParallelRecordConverter.convertAll(persons, JsonAdaptedPerson::toModelType);
+        List<Booking> modelBookings = ParallelRecordConverter.convertAll(bookings, JsonAdaptedBooking::toModelType);
+        return toModelType(modelPersons, modelBookings);
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the given persons and bookings, read from storage,
+     * linking each booking to the person holding its ID and dropping bookings that no person holds.
+     *
+     * @throws IllegalValueException if there are duplicate persons or bookings,
+     *     or a person holds the ID of a booking that does not exist.
+     */
+    static AddressBook toModelType(List<Person> modelPersons, Collection<Booking> modelBookings)
+            throws IllegalValueException {
+        return toModelType(modelPersons, modelBookings, false, NO_UNREAD_BOOKINGS);
+    }
+
+    /**
+     * Similar to {@link #toModelType(List, Collection)}, but a person may hold the ID of a booking that was not
+     * read, as when its bookings are saved in files apart from it.
+     * An ID no greater than {@code maxUnreadBookingId} may be that of a booking left in storage to be loaded later,
+     * so it is kept. A greater one is that of a booking removed by a save that was interrupted before the person
+     * was written, so it is dropped from the person.
+     */
+    static AddressBook toModelType(List<Person> modelPersons, Collection<Booking> modelBookings,
+            int maxUnreadBookingId) throws IllegalValueException {
+        return toModelType(modelPersons, modelBookings, true, maxUnreadBookingId);
+    }
+
+    private static AddressBook toModelType(List<Person> modelPersons, Collection<Booking> modelBookings,
+            boolean isMissingBookingAllowed, int maxUnreadBookingId) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        if (bookings.size() == 0) {
-            return addressBook;
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, e);
         }
-        for (JsonAdaptedBooking jsonAdaptedBooking: bookings) {
-            Booking booking = jsonAdaptedBooking.toModelType();
-            int bookingId = booking.getBookingId();
-            if (addressBook.hasBooking(bookingId)) {
-                System.out.println("Duplicate booking id: " + bookingId);
+
+        Map<Integer, Booking> bookingsById = new HashMap<>();
+        for (Booking booking : modelBookings) {
+            if (bookingsById.putIfAbsent(booking.getBookingId(), booking) != null) {
+                logger.info("Duplicate booking id: " + booking.getBookingId());
                 throw new IllegalValueException(MESSAGE_DUPLICATE_BOOKING);
             }
-            //System.out.println("Adding booking id: " + bookingId);
-            addressBook.addBooking(booking);
         }
+
+        List<Integer> missingIds = new ArrayList<>();
         for (Person person : addressBook.getPersonList()) {
-            for (int bookingId : person.getBookingIDs()) {
-                if (!addressBook.hasBooking(bookingId)) {
+            BookingIdSet bookingIds = person.getBookingIDs();
+            for (int i = 0; i < bookingIds.size(); i++) {
+                int bookingId = bookingIds.get(i);
+                Booking booking = bookingsById.get(bookingId);
+                if (booking != null) {
+                    booking.setBookingPerson(person);
+                } else if (!isMissingBookingAllowed) {
                     throw new IllegalValueException("Person has booking id that does not exist in booking list");
+                } else if (bookingId > maxUnreadBookingId) {
+                    person.removeBookingID(bookingId);
+                    missingIds.add(bookingId);
+                    i--;
                 }
-                Booking booking = addressBook.getUniqueBookingList().getBooking(bookingId);
-                booking.setBookingPerson(person);
             }
         }
+        if (!missingIds.isEmpty()) {
+            logger.warning("Dropped " + missingIds.size() + " booking ID(s) held by persons but not saved, "
+                    + formatIds(missingIds));
+        }
 
-        UniqueBookingList bookingsList = addressBook.getUniqueBookingList();
-        List<Booking> bookingsToDelete = new ArrayList<>();
-        for (Booking booking : bookingsList) {
-            if (booking.getBookingPerson() == null) {
-                bookingsToDelete.add(booking);
+        // bookings that no person holds are dropped before the booking list is built, instead of removed from it
+        List<Booking> linkedBookings = new ArrayList<>(bookingsById.size());
+        List<Integer> orphanIds = new ArrayList<>();
+        for (Booking booking : modelBookings) {
+            if (booking.getBookingPerson() != null) {
+                linkedBookings.add(booking);
+            } else {
+                orphanIds.add(booking.getBookingId());
             }
         }
-        for (Booking booking : bookingsToDelete) {
-            addressBook.removeBooking(booking);
+        if (!orphanIds.isEmpty()) {
+            logger.warning("Dropped " + orphanIds.size() + " booking(s) that no person holds, "
+                    + formatIds(orphanIds));
         }
+        addressBook.setBookings(linkedBookings);
         return addressBook;
     }
 
+    private static String formatIds(List<Integer> ids) {
+        return "with IDs " + (ids.size() <= MAX_LOGGED_IDS ? ids : ids.subList(0, MAX_LOGGED_IDS) + " and more");
+    }
+
 }
@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The list of monthly booking segments saved next to an address book, serializable to JSON format.
+ */
+class JsonSerializableSegmentManifest {
+
+    private final List<JsonAdaptedBookingSegment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} with the given segments.
+     */
+    @JsonCreator
+    public JsonSerializableSegmentManifest(@JsonProperty("segments") Collection<JsonAdaptedBookingSegment> segments) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public List<JsonAdaptedBookingSegment> getSegments() {
+        return segments;
+    }
+}
@@ -0,0 +1,310 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.model.booking.exceptions.BookingLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as json files on the hard disk, with the persons in one file and the
+ * bookings split into one file, or segment, per month in a directory next to it. A manifest in that directory
+ * lists the months that have bookings.
+ *
+ * Only the bookings of recent and later months, and of earlier months that still have upcoming bookings, are
+ * loaded at startup. The other months are left in their segments until a command needs them, so startup time
+ * does not grow with the booking history. A save rewrites only the segments whose bookings changed.
+ *
+ * The files cannot be replaced together, so the segments are written before the manifest and the persons file,
+ * and the segments of months left with no bookings are deleted last. A crash part way through a save can lose the
+ * changes of that save, and can leave a person holding the ID of a booking the save removed from its segment. Such
+ * an ID is dropped from the person when the address book is next read, unless it may be that of a booking in a
+ * month that is not loaded, in which case it is dropped once every month is loaded.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    static final String SEGMENT_DIRECTORY_SUFFIX = ".bookings";
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    // the bookings of this many months before the current one are loaded at startup
+    private static final int RECENT_MONTHS = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private Path filePath;
+    private final YearMonth firstRecentMonth;
+    private final boolean isPrettyJson;
+
+    // the segments last read from or written to savedDirectory, and the persons and bookings they were written
+    // from, so that a save of a snapshot can skip the files whose persons or bookings are the same objects
+    private Path savedDirectory;
+    private final Map<YearMonth, JsonAdaptedBookingSegment> savedSegments = new TreeMap<>();
+    private final Map<YearMonth, List<Booking>> savedSegmentSources = new HashMap<>();
+    private List<Person> savedPersonSources;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Constructs a {@code SegmentedAddressBookStorage} that indents its files for reading if {@code isPrettyJson}
+     * is true, or writes them compactly otherwise.
+     */
+    public SegmentedAddressBookStorage(Path filePath, boolean isPrettyJson) {
+        this(filePath, YearMonth.now().minusMonths(RECENT_MONTHS), isPrettyJson);
+    }
+
+    /**
+     * Constructs a {@code SegmentedAddressBookStorage} that loads the bookings of {@code firstRecentMonth}
+     * and later months at startup.
+     */
+    SegmentedAddressBookStorage(Path filePath, YearMonth firstRecentMonth) {
+        this(filePath, firstRecentMonth, true);
+    }
+
+    private SegmentedAddressBookStorage(Path filePath, YearMonth firstRecentMonth, boolean isPrettyJson) {
+        this.filePath = filePath;
+        this.firstRecentMonth = firstRecentMonth;
+        this.isPrettyJson = isPrettyJson;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory holding the booking segments of the address book at {@code filePath}.
+     */
+    static Path getSegmentDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    private static Path getSegmentPath(Path segmentDirectory, YearMonth month) {
+        return segmentDirectory.resolve(month + ".json");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        Path manifestPath = segmentDirectory.resolve(MANIFEST_FILE_NAME);
+        savedDirectory = segmentDirectory;
+        savedSegments.clear();
+        savedSegmentSources.clear();
+        savedPersonSources = null;
+
+        if (!Files.exists(manifestPath)) {
+            // the bookings have not been split into segments yet, so all of them are loaded, and split on the
+            // first save
+            return new JsonAddressBookStorage(filePath, isPrettyJson).readAddressBook();
+        }
+
+        List<JsonAdaptedBookingSegment> segments = JsonUtil.readJsonFile(manifestPath,
+                JsonSerializableSegmentManifest.class).get().getSegments();
+        try {
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            if (Files.exists(filePath)) {
+                reader.readFile(filePath);
+            }
+
+            List<YearMonth> unloadedMonths = new ArrayList<>();
+            int maxBookingId = 0;
+            int maxUnloadedBookingId = JsonSerializableAddressBook.NO_UNREAD_BOOKINGS;
+            for (JsonAdaptedBookingSegment segment : segments) {
+                YearMonth month = segment.getMonth();
+                if (!month.isBefore(firstRecentMonth) || segment.getUpcoming() > 0) {
+                    reader.readFile(getSegmentPath(segmentDirectory, month));
+                } else {
+                    unloadedMonths.add(month);
+                    maxUnloadedBookingId = Math.max(maxUnloadedBookingId, segment.getMaxBookingId());
+                }
+                savedSegments.put(month, segment);
+                maxBookingId = Math.max(maxBookingId, segment.getMaxBookingId());
+            }
+
+            AddressBook addressBook = reader.toModelType(maxUnloadedBookingId);
+            addressBook.setBookingArchive(new SegmentArchive(segmentDirectory, maxBookingId), unloadedMonths);
+            logger.info("Loaded " + (segments.size() - unloadedMonths.size()) + " of " + segments.size()
+                    + " booking segments from " + segmentDirectory);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading booking segments of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its booking segments: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path segmentDirectory = getSegmentDirectory(filePath);
+        boolean isSavedDirectory = segmentDirectory.equals(savedDirectory);
+        // only a snapshot guarantees that a person or booking that is the same object has the same details
+        boolean isSnapshot = addressBook instanceof AddressBookSnapshot;
+
+        Map<YearMonth, List<Booking>> bookingsByMonth = new TreeMap<>();
+        for (Booking booking : addressBook.getBookingList()) {
+            bookingsByMonth.computeIfAbsent(YearMonth.from(booking.getBookingDateTime()), month -> new ArrayList<>())
+                    .add(booking);
+        }
+
+        Map<YearMonth, JsonAdaptedBookingSegment> segments = new TreeMap<>();
+        boolean isManifestChanged = !isSavedDirectory;
+        for (YearMonth month : addressBook.getUnloadedBookingMonths()) {
+            // months that were never loaded have not changed, so their segments are kept as they are
+            JsonAdaptedBookingSegment segment = savedSegments.get(month);
+            if (segment == null) {
+                throw new IOException("The bookings of " + month + " are not in " + savedDirectory);
+            }
+            if (!isSavedDirectory) {
+                Files.createDirectories(segmentDirectory);
+                copySegment(getSegmentPath(savedDirectory, month), getSegmentPath(segmentDirectory, month));
+            }
+            segments.put(month, segment);
+        }
+        for (Map.Entry<YearMonth, List<Booking>> entry : bookingsByMonth.entrySet()) {
+            YearMonth month = entry.getKey();
+            List<Booking> bookings = entry.getValue();
+            if (!isSavedDirectory || !isSnapshot || !isSameObjects(savedSegmentSources.get(month), bookings)) {
+                JsonAddressBookWriter.writeSnapshot(getSegmentPath(segmentDirectory, month), Collections.emptyList(),
+                        bookings, isPrettyJson);
+                isManifestChanged = true;
+            }
+            segments.put(month, new JsonAdaptedBookingSegment(month, bookings));
+        }
+
+        List<YearMonth> removedMonths = new ArrayList<>();
+        if (isSavedDirectory) {
+            savedSegments.keySet().stream().filter(month -> !segments.containsKey(month)).forEach(removedMonths::add);
+        }
+        if (isManifestChanged || !removedMonths.isEmpty()) {
+            JsonUtil.saveJsonFile(new JsonSerializableSegmentManifest(segments.values()),
+                    segmentDirectory.resolve(MANIFEST_FILE_NAME));
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        if (!isSavedDirectory || !isSnapshot || !isSameObjects(savedPersonSources, persons)) {
+            JsonAddressBookWriter.writeSnapshot(filePath, persons, Collections.emptyList(), isPrettyJson);
+            // a journal left by the JSON format would replay changes onto a file that no longer holds bookings
+            Files.deleteIfExists(JsonAddressBookJournal.getJournalPath(filePath));
+        }
+
+        for (YearMonth month : removedMonths) {
+            Path segmentPath = getSegmentPath(segmentDirectory, month);
+            Files.deleteIfExists(segmentPath);
+            Files.deleteIfExists(JsonAdaptedSnapshotHeader.getHeaderPath(segmentPath));
+        }
+
+        savedDirectory = segmentDirectory;
+        savedSegments.clear();
+        savedSegments.putAll(segments);
+        savedSegmentSources.clear();
+        savedSegmentSources.putAll(bookingsByMonth);
+        savedPersonSources = persons;
+    }
+
+    /**
+     * Copies the segment at {@code source}, and its header if it has one, to {@code target}.
+     */
+    private static void copySegment(Path source, Path target) throws IOException {
+        Path targetHeaderPath = JsonAdaptedSnapshotHeader.getHeaderPath(target);
+        Files.deleteIfExists(targetHeaderPath);
+        // copied after the segment, so that the segment is not taken to have been changed since its header
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        Path sourceHeaderPath = JsonAdaptedSnapshotHeader.getHeaderPath(source);
+        if (Files.exists(sourceHeaderPath)) {
+            Files.copy(sourceHeaderPath, targetHeaderPath);
+        }
+    }
+
+    private static boolean isSameObjects(List<?> saved, List<?> current) {
+        if (saved == null || saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loads the bookings of a month from its segment.
+     */
+    private static class SegmentArchive implements BookingArchive {
+
+        private final Path segmentDirectory;
+        private final int maxBookingId;
+
+        SegmentArchive(Path segmentDirectory, int maxBookingId) {
+            this.segmentDirectory = segmentDirectory;
+            this.maxBookingId = maxBookingId;
+        }
+
+        @Override
+        public List<Booking> loadMonth(YearMonth month) {
+            Path segmentPath = getSegmentPath(segmentDirectory, month);
+            try {
+                JsonAddressBookReader reader = new JsonAddressBookReader();
+                reader.readFile(segmentPath);
+                logger.info("Loaded the bookings of " + month + " from " + segmentPath);
+                return reader.getBookings();
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Error reading booking segment " + segmentPath + ": " + e);
+                throw new BookingLoadingException(month, e);
+            }
+        }
+
+        @Override
+        public int getMaxBookingId() {
+            return maxBookingId;
+        }
+    }
+}
@@ -0,0 +1,560 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ParallelRecordConverter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.model.booking.BookingIdSet;
+import seedu.address.model.booking.Status;
+import seedu.address.model.booking.exceptions.BookingLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in an SQLite database file on the hard disk, through JDBC.
+ *
+ * Persons and bookings are rows of their own tables, keyed by phone and booking ID. A save upserts the rows of
+ * only the persons and bookings that changed since the last save, and deletes those of the ones removed, in a
+ * single transaction, instead of rewriting the whole file. Bookings are indexed by the phone of their person,
+ * by date and by status.
+ *
+ * As with {@link SegmentedAddressBookStorage}, only the bookings of recent and later months, and of earlier months
+ * that still have upcoming bookings, are loaded at startup. The other months are queried by date when a command
+ * needs them.
+ */
+public class SqliteAddressBookStorage implements JsonConvertibleStorage {
+
+    // the version of the schema created below, kept in the database's user_version
+    static final int SCHEMA_VERSION = 1;
+
+    // the bookings of this many months before the current one are loaded at startup
+    private static final int RECENT_MONTHS = 1;
+
+    private static final String URL_PREFIX = "jdbc:sqlite:";
+    private static final String PERSON_COLUMNS = "phone, name, email, address, tags, is_member";
+    private static final String BOOKING_COLUMNS = "booking_id, phone, booking_date, booking_made_date, status, "
+            + "remarks, pax";
+    private static final String UPSERT_PERSON = "INSERT INTO persons (" + PERSON_COLUMNS + ") "
+            + "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (phone) DO UPDATE SET name = excluded.name, "
+            + "email = excluded.email, address = excluded.address, tags = excluded.tags, "
+            + "is_member = excluded.is_member";
+    private static final String UPSERT_BOOKING = "INSERT INTO bookings (" + BOOKING_COLUMNS + ") "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (booking_id) DO UPDATE SET phone = excluded.phone, "
+            + "booking_date = excluded.booking_date, booking_made_date = excluded.booking_made_date, "
+            + "status = excluded.status, remarks = excluded.remarks, pax = excluded.pax";
+
+    private static final Logger logger = LogsCenter.getLogger(SqliteAddressBookStorage.class);
+
+    private Path filePath;
+    private final YearMonth firstRecentMonth;
+
+    // the rows last read from or written to savedFilePath, as the values of their columns after the key, and the
+    // persons and bookings they were written from, so that a save of a snapshot can skip those that are the same
+    // objects
+    private Path savedFilePath;
+    private final Map<String, List<Object>> savedPersonRows = new HashMap<>();
+    private final Map<Integer, List<Object>> savedBookingRows = new HashMap<>();
+    private Map<String, Person> savedPersonSources = Collections.emptyMap();
+    private Map<Integer, Booking> savedBookingSources = Collections.emptyMap();
+    // the rows of months loaded by a command since the last save, which may be on another thread
+    private final Map<Integer, List<Object>> loadedBookingRows = new ConcurrentHashMap<>();
+
+    public SqliteAddressBookStorage(Path filePath) {
+        this(filePath, YearMonth.now().minusMonths(RECENT_MONTHS));
+    }
+
+    /**
+     * Constructs a {@code SqliteAddressBookStorage} that loads the bookings of {@code firstRecentMonth}
+     * and later months at startup.
+     */
+    SqliteAddressBookStorage(Path filePath, YearMonth firstRecentMonth) {
+        this.filePath = filePath;
+        this.firstRecentMonth = firstRecentMonth;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        clearSavedRows();
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("SQLite database " + filePath + " found.");
+
+        try (Connection connection = openConnection(filePath)) {
+            if (getSchemaVersion(connection) == 0) {
+                // the file was created, but nothing was ever saved to it
+                return Optional.empty();
+            }
+
+            // a person's booking IDs are those of the bookings with its phone, so they are not stored twice
+            Map<String, BookingIdSet> bookingIdsByPhone = new HashMap<>();
+            Map<String, Boolean> hasUpcomingByMonth = new HashMap<>();
+            int maxBookingId = 0;
+            try (Statement statement = connection.createStatement();
+                    ResultSet result = statement.executeQuery("SELECT booking_id, phone, "
+                            + "substr(booking_date, 1, 7), status = '" + Status.UPCOMING + "' FROM bookings")) {
+                while (result.next()) {
+                    int bookingId = result.getInt(1);
+                    bookingIdsByPhone.computeIfAbsent(result.getString(2), phone -> new BookingIdSet()).add(bookingId);
+                    hasUpcomingByMonth.merge(result.getString(3), result.getBoolean(4), Boolean::logicalOr);
+                    maxBookingId = Math.max(maxBookingId, bookingId);
+                }
+            }
+
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                    ResultSet result = statement.executeQuery("SELECT " + PERSON_COLUMNS
+                            + " FROM persons ORDER BY rowid")) {
+                while (result.next()) {
+                    String phone = result.getString(1);
+                    String name = result.getString(2);
+                    String email = result.getString(3);
+                    String address = result.getString(4);
+                    String tags = result.getString(5);
+                    boolean isMember = result.getBoolean(6);
+                    List<JsonAdaptedTag> adaptedTags = tags.isEmpty() ? Collections.emptyList()
+                            : Arrays.stream(tags.split(" ")).map(JsonAdaptedTag::new).collect(Collectors.toList());
+                    BookingIdSet bookingIds = bookingIdsByPhone.getOrDefault(phone, new BookingIdSet());
+                    persons.add(new JsonAdaptedPerson(name, phone, email, address, adaptedTags, isMember,
+                            bookingIds.toArray()));
+                    savedPersonRows.put(phone, List.of(name, email, address, tags, isMember));
+                }
+            }
+
+            List<Booking> bookings = readBookings(connection, firstRecentMonth, null, savedBookingRows);
+            List<YearMonth> unloadedMonths = new ArrayList<>();
+            for (Map.Entry<String, Boolean> entry : hasUpcomingByMonth.entrySet()) {
+                YearMonth month = YearMonth.parse(entry.getKey());
+                if (!month.isBefore(firstRecentMonth)) {
+                    continue;
+                }
+                if (entry.getValue()) {
+                    bookings.addAll(readBookings(connection, month, month.plusMonths(1), savedBookingRows));
+                } else {
+                    unloadedMonths.add(month);
+                }
+            }
+
+            AddressBook addressBook = JsonSerializableAddressBook.toModelType(
+                    ParallelRecordConverter.convertAll(persons, JsonAdaptedPerson::toModelType), bookings,
+                    unloadedMonths.isEmpty() ? JsonSerializableAddressBook.NO_UNREAD_BOOKINGS : maxBookingId);
+            addressBook.setBookingArchive(new SqliteArchive(filePath, maxBookingId, loadedBookingRows),
+                    unloadedMonths);
+            savedFilePath = filePath;
+            logger.info("Loaded " + bookings.size() + " bookings from " + filePath + ", leaving "
+                    + unloadedMonths.size() + " earlier months to be loaded when needed");
+            return Optional.of(addressBook);
+        } catch (SQLException | DateTimeParseException e) {
+            clearSavedRows();
+            logger.warning("Error reading from SQLite database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            clearSavedRows();
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Set<YearMonth> unloadedMonths = addressBook.getUnloadedBookingMonths();
+        boolean isSavedFile = filePath.equals(savedFilePath);
+        if (!isSavedFile && !unloadedMonths.isEmpty()) {
+            // the bookings of the months not loaded are only in the database they were read from
+            if (savedFilePath == null) {
+                throw new IOException("The bookings of " + unloadedMonths + " are not in any database");
+            }
+            copyDatabase(savedFilePath, filePath);
+            isSavedFile = true;
+        }
+        if (isSavedFile) {
+            for (Iterator<Map.Entry<Integer, List<Object>>> iterator = loadedBookingRows.entrySet().iterator();
+                    iterator.hasNext();) {
+                Map.Entry<Integer, List<Object>> entry = iterator.next();
+                savedBookingRows.putIfAbsent(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        } else {
+            clearSavedRows();
+        }
+        // only a snapshot guarantees that a person or booking that is the same object has the same details
+        boolean isSnapshot = addressBook instanceof AddressBookSnapshot;
+
+        Map<String, Person> personSources = new HashMap<>();
+        // new persons are inserted in list order, which their rowids keep for the next read
+        Map<String, List<Object>> changedPersonRows = new LinkedHashMap<>();
+        Map<Integer, String> phonesByBookingId = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            String phone = person.getPhone().value;
+            personSources.put(phone, person);
+            person.getBookingIDs().forEach(bookingId -> phonesByBookingId.put(bookingId, phone));
+            if (isSnapshot && savedPersonSources.get(phone) == person) {
+                continue;
+            }
+            List<Object> row = toRow(person);
+            if (!row.equals(savedPersonRows.get(phone))) {
+                changedPersonRows.put(phone, row);
+            }
+        }
+
+        Map<Integer, Booking> bookingSources = new HashMap<>();
+        Map<Integer, List<Object>> changedBookingRows = new LinkedHashMap<>();
+        for (Booking booking : addressBook.getBookingList()) {
+            int bookingId = booking.getBookingId();
+            String phone = phonesByBookingId.get(bookingId);
+            if (phone == null) {
+                // a booking that no person holds would be dropped when read back
+                continue;
+            }
+            bookingSources.put(bookingId, booking);
+            List<Object> savedRow = savedBookingRows.get(bookingId);
+            if (isSnapshot && savedBookingSources.get(bookingId) == booking && phone.equals(savedRow.get(0))) {
+                continue;
+            }
+            List<Object> row = toRow(booking, phone);
+            if (!row.equals(savedRow)) {
+                changedBookingRows.put(bookingId, row);
+            }
+        }
+
+        List<String> removedPhones = savedPersonRows.keySet().stream()
+                .filter(phone -> !personSources.containsKey(phone)).collect(Collectors.toList());
+        // bookings of months that were not loaded are not in the address book, but have not been removed
+        List<Integer> removedBookingIds = savedBookingRows.entrySet().stream()
+                .filter(entry -> !bookingSources.containsKey(entry.getKey())
+                        && !unloadedMonths.contains(YearMonth.parse(((String) entry.getValue().get(1))
+                                .substring(0, 7))))
+                .map(Map.Entry::getKey).collect(Collectors.toList());
+
+        try (Connection connection = openConnection(filePath)) {
+            createSchema(connection);
+            connection.setAutoCommit(false);
+            try {
+                if (!isSavedFile) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate("DELETE FROM bookings");
+                        statement.executeUpdate("DELETE FROM persons");
+                    }
+                }
+                writeChanges(connection, changedPersonRows, removedPhones, changedBookingRows, removedBookingIds);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.warning("Error saving to SQLite database " + filePath + ": " + e);
+            throw new IOException("Could not save to " + filePath + ": " + e.getMessage(), e);
+        }
+        logger.fine("Saved " + (changedPersonRows.size() + removedPhones.size()) + " person and "
+                + (changedBookingRows.size() + removedBookingIds.size()) + " booking changes to " + filePath);
+
+        savedFilePath = filePath;
+        savedPersonRows.putAll(changedPersonRows);
+        savedPersonRows.keySet().removeAll(removedPhones);
+        savedBookingRows.putAll(changedBookingRows);
+        savedBookingRows.keySet().removeAll(removedBookingIds);
+        savedPersonSources = isSnapshot ? personSources : Collections.emptyMap();
+        savedBookingSources = isSnapshot ? bookingSources : Collections.emptyMap();
+    }
+
+    /**
+     * Replaces the data in this storage with the address book in the JSON file at {@code jsonFilePath}.
+     *
+     * @return false if there is no file at {@code jsonFilePath} to import.
+     * @throws DataLoadingException if the JSON file could not be loaded.
+     * @throws IOException if there was any problem writing to this storage's database.
+     */
+    @Override
+    public boolean importFromJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Writes the data in this storage to the JSON file at {@code jsonFilePath}, replacing anything there.
+     *
+     * @return false if this storage has no data to export.
+     * @throws DataLoadingException if this storage's database could not be loaded.
+     * @throws IOException if there was any problem writing to the JSON file.
+     */
+    @Override
+    public boolean exportToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        AddressBook fullAddressBook = new AddressBook(addressBook.get());
+        fullAddressBook.loadAllBookings();
+        // a fresh JSON storage writes a full file, and drops any journal left over from an older one
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(fullAddressBook);
+        return true;
+    }
+
+    @Override
+    public Optional<FileTime> getLastSavedTime() throws IOException {
+        // changes are written to the write-ahead log first, and copied into the database later
+        return FileUtil.getLastModifiedTime(filePath, filePath.resolveSibling(filePath.getFileName() + "-wal"));
+    }
+
+    private void clearSavedRows() {
+        savedFilePath = null;
+        savedPersonRows.clear();
+        savedBookingRows.clear();
+        savedPersonSources = Collections.emptyMap();
+        savedBookingSources = Collections.emptyMap();
+        loadedBookingRows.clear();
+    }
+
+    private static Connection openConnection(Path filePath) throws SQLException {
+        return DriverManager.getConnection(URL_PREFIX + filePath.toAbsolutePath());
+    }
+
+    private static int getSchemaVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("PRAGMA user_version")) {
+            int version = result.next() ? result.getInt(1) : 0;
+            if (version > SCHEMA_VERSION) {
+                throw new SQLException("The database was written by a newer version, with schema " + version);
+            }
+            return version;
+        }
+    }
+
+    /**
+     * Creates the tables and indexes in the database of {@code connection}, if it does not have them yet.
+     */
+    private static void createSchema(Connection connection) throws SQLException {
+        if (getSchemaVersion(connection) == SCHEMA_VERSION) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            // lets a month be loaded while a save is being written
+            statement.execute("PRAGMA journal_mode = WAL");
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS persons (phone TEXT PRIMARY KEY, "
+                    + "name TEXT NOT NULL, email TEXT NOT NULL, address TEXT NOT NULL, tags TEXT NOT NULL, "
+                    + "is_member INTEGER NOT NULL)");
+            statement.executeUpdate("CREATE TABLE IF NOT EXISTS bookings (booking_id INTEGER PRIMARY KEY, "
+                    + "phone TEXT NOT NULL, booking_date TEXT NOT NULL, booking_made_date TEXT NOT NULL, "
+                    + "status TEXT NOT NULL, remarks TEXT NOT NULL, pax INTEGER NOT NULL)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS bookings_by_phone ON bookings (phone)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS bookings_by_date ON bookings (booking_date)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS bookings_by_status "
+                    + "ON bookings (status, booking_date)");
+            statement.executeUpdate("PRAGMA user_version = " + SCHEMA_VERSION);
+        }
+    }
+
+    /**
+     * Replaces the database at {@code target} with a consistent copy of the one at {@code source}.
+     */
+    private static void copyDatabase(Path source, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        FileUtil.createParentDirsOfFile(target);
+        try (Connection connection = openConnection(source);
+                PreparedStatement statement = connection.prepareStatement("VACUUM INTO ?")) {
+            statement.setString(1, target.toAbsolutePath().toString());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IOException("Could not copy " + source + " to " + target + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeChanges(Connection connection, Map<String, List<Object>> changedPersonRows,
+            List<String> removedPhones, Map<Integer, List<Object>> changedBookingRows,
+            List<Integer> removedBookingIds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM bookings WHERE booking_id = ?")) {
+            for (int bookingId : removedBookingIds) {
+                statement.setInt(1, bookingId);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM persons WHERE phone = ?")) {
+            for (String phone : removedPhones) {
+                statement.setString(1, phone);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_PERSON)) {
+            for (Map.Entry<String, List<Object>> entry : changedPersonRows.entrySet()) {
+                statement.setString(1, entry.getKey());
+                setValues(statement, entry.getValue());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_BOOKING)) {
+            for (Map.Entry<Integer, List<Object>> entry : changedBookingRows.entrySet()) {
+                statement.setInt(1, entry.getKey());
+                setValues(statement, entry.getValue());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Sets the parameters after the key of {@code statement} to {@code values}.
+     */
+    private static void setValues(PreparedStatement statement, List<Object> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            statement.setObject(i + 2, values.get(i));
+        }
+    }
+
+    /**
+     * Returns the values of the columns of {@code person}'s row after its phone.
+     */
+    private static List<Object> toRow(Person person) {
+        String tags = person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(" "));
+        return List.of(person.getName().fullName, person.getEmail().value, person.getAddress().value, tags,
+                person.getMemberStatus());
+    }
+
+    /**
+     * Returns the values of the columns of {@code booking}'s row after its ID, for a booking held by the person
+     * with {@code phone}.
+     */
+    private static List<Object> toRow(Booking booking, String phone) {
+        return List.of(phone, booking.getBookingDateTime().toString(), booking.getBookingMadeDateTime().toString(),
+                booking.getStatus().toString(), booking.getRemarks(), booking.getPax());
+    }
+
+    /**
+     * Returns the bookings dated from the start of {@code from} to before the start of {@code until}, or with no
+     * end if {@code until} is null, and puts their rows into {@code rows}.
+     */
+    private static List<Booking> readBookings(Connection connection, YearMonth from, YearMonth until,
+            Map<Integer, List<Object>> rows) throws SQLException, IllegalValueException {
+        // dates are saved in ISO format, so a month's bookings are those from its name up to the next month's name
+        String query = "SELECT " + BOOKING_COLUMNS + " FROM bookings WHERE booking_date >= ?"
+                + (until == null ? "" : " AND booking_date < ?") + " ORDER BY booking_id";
+        List<JsonAdaptedBooking> bookings = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, from.toString());
+            if (until != null) {
+                statement.setString(2, until.toString());
+            }
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    int bookingId = result.getInt(1);
+                    String phone = result.getString(2);
+                    String bookingDate = result.getString(3);
+                    String bookingMadeDate = result.getString(4);
+                    String status = result.getString(5);
+                    String remarks = result.getString(6);
+                    int pax = result.getInt(7);
+                    bookings.add(new JsonAdaptedBooking(bookingId, bookingDate, bookingMadeDate, status, remarks,
+                            pax));
+                    rows.put(bookingId, List.of(phone, bookingDate, bookingMadeDate, status, remarks, pax));
+                }
+            }
+        }
+        return ParallelRecordConverter.convertAll(bookings, JsonAdaptedBooking::toModelType);
+    }
+
+    /**
+     * Loads the bookings of a month from the database with a query on their dates.
+     */
+    private static class SqliteArchive implements BookingArchive {
+
+        private final Path filePath;
+        private final int maxBookingId;
+        private final Map<Integer, List<Object>> loadedRows;
+
+        SqliteArchive(Path filePath, int maxBookingId, Map<Integer, List<Object>> loadedRows) {
+            this.filePath = filePath;
+            this.maxBookingId = maxBookingId;
+            this.loadedRows = loadedRows;
+        }
+
+        @Override
+        public List<Booking> loadMonth(YearMonth month) {
+            try (Connection connection = openConnection(filePath)) {
+                Map<Integer, List<Object>> rows = new HashMap<>();
+                List<Booking> bookings = readBookings(connection, month, month.plusMonths(1), rows);
+                // the storage checks these rows on its next save, to delete the bookings removed since
+                loadedRows.putAll(rows);
+                logger.info("Loaded the bookings of " + month + " from " + filePath);
+                return bookings;
+            } catch (SQLException | IllegalValueException e) {
+                logger.warning("Error reading the bookings of " + month + " from " + filePath + ": " + e);
+                throw new BookingLoadingException(month, e);
+            }
+        }
+
+        @Override
+        public int getMaxBookingId() {
+            return maxBookingId;
+        }
+    }
+}
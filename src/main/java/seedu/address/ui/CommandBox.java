@@ -1,12 +1,21 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,21 +23,74 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final int MAX_CANDIDATES = 10;
     private static final String FXML = "CommandBox.fxml";
+    private static final String FIND_COMMAND_PREFIX = FindCommand.COMMAND_WORD + " ";
 
     private final CommandExecutor commandExecutor;
+    private final CandidateFinder candidateFinder;
+    private final ContextMenu candidateMenu = new ContextMenu();
+    // whether the command text is being replaced by a picked candidate, which should not show candidates again
+    private boolean isFillingInCandidate;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CandidateFinder}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CandidateFinder candidateFinder) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.candidateFinder = candidateFinder;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            if (!isFillingInCandidate) {
+                showCandidates(newText);
+            }
+        });
+    }
+
+    /**
+     * Shows the persons matching the last word of a partially typed {@code find} command below the command box.
+     * Picking one of them replaces the command with a {@code find} by that person's phone number, which lists
+     * exactly that person whether the person matched by name or by phone number.
+     */
+    private void showCandidates(String commandText) {
+        if (!commandText.startsWith(FIND_COMMAND_PREFIX) || commandText.endsWith(" ")) {
+            candidateMenu.hide();
+            return;
+        }
+
+        int lastWordStart = commandText.lastIndexOf(' ') + 1;
+        String prefix = commandText.substring(lastWordStart);
+        List<Person> candidates = candidateFinder.find(prefix, MAX_CANDIDATES);
+        if (candidates.isEmpty()) {
+            candidateMenu.hide();
+            return;
+        }
+
+        candidateMenu.getItems().clear();
+        for (Person candidate : candidates) {
+            MenuItem item = new MenuItem(candidate.getName().fullName + " (" + candidate.getPhone().value + ")");
+            item.setOnAction(unused -> fillInCandidate(candidate));
+            candidateMenu.getItems().add(item);
+        }
+        if (!candidateMenu.isShowing()) {
+            candidateMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void fillInCandidate(Person candidate) {
+        isFillingInCandidate = true;
+        try {
+            commandTextField.setText(FIND_COMMAND_PREFIX + PREFIX_PHONE + candidate.getPhone().value);
+        } finally {
+            isFillingInCandidate = false;
+        }
+        commandTextField.positionCaret(commandTextField.getText().length());
+        candidateMenu.hide();
     }
 
     /**
@@ -36,6 +98,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        candidateMenu.hide();
         String commandText = commandTextField.getText();
         if (commandText.equals("")) {
             return;
@@ -82,4 +145,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that finds persons matching a partially typed word.
+     */
+    @FunctionalInterface
+    public interface CandidateFinder {
+        /**
+         * Returns up to {@code limit} persons with a name word or phone number starting with {@code prefix}.
+         *
+         * @see seedu.address.logic.Logic#findPersonsByPrefix(String, int)
+         */
+        List<Person> find(String prefix, int limit);
+    }
+
 }
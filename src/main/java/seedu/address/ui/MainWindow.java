@@ -4,6 +4,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_UPCOMING_BOOKINGS;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -39,6 +40,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private BookingListPanel bookingListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
 
     @FXML
@@ -60,17 +62,17 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, sized by {@code guiSettings}.
+     * It shows no data until {@link #setLogic} is called.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(guiSettings);
 
         setAccelerators();
 
@@ -116,20 +118,29 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up the placeholders of this window that do not show data. The command box is disabled until
+     * {@link #setLogic} is called.
      */
     void fillInnerParts() {
-        AddressBook addressBook = (AddressBook) logic.getAddressBook();
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), addressBook.getUniqueBookingList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
+        commandBox = new CommandBox(this::executeCommand, (prefix, limit) -> logic.findPersonsByPrefix(prefix, limit));
+        commandBox.getRoot().setDisable(true);
+        commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+    }
+
+    /**
+     * Fills up the placeholders of this window that show the data of {@code logic}, and enables the command box
+     * to execute commands with it.
+     */
+    void setLogic(Logic logic) {
+        this.logic = logic;
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
-        CommandBox commandBox = new CommandBox(this::executeCommand);
-        commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+        commandBox.getRoot().setDisable(false);
 
         LogicManager logicManager = (LogicManager) logic;
         ModelManager modelManager = (ModelManager) logicManager.getModel();
@@ -191,9 +202,12 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
-        GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
-                (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        // the window may be closed before the data, and the settings with it, have been loaded
+        if (logic != null) {
+            GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
+                    (int) primaryStage.getX(), (int) primaryStage.getY());
+            logic.setGuiSettings(guiSettings);
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
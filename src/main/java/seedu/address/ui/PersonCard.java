@@ -81,12 +81,12 @@ public class PersonCard extends UiPart<Region> {
         }
 
         List<Booking> upcomingBookings = new ArrayList<>();
-        for (Integer bookingId : person.getBookingIDs()) {
+        person.getBookingIDs().forEach(bookingId -> {
             Booking booking = bookings.getBooking(bookingId);
             if (booking != null && booking.getStatus() == Status.UPCOMING) {
                 upcomingBookings.add(booking);
             }
-        }
+        });
         upcomingBookings.sort(Comparator.comparing(Booking::getBookingDateTime));
 
         bookingCount.setText("Upcoming Bookings:  " + upcomingBookings.size());
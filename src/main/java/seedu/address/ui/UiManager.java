@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -8,7 +10,9 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -22,32 +26,52 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
-    private Logic logic;
+    private final CompletableFuture<Logic> logic;
+    private final GuiSettings guiSettings;
+    private final StartupTimer startupTimer;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} whose window is built with {@code guiSettings} as soon as it starts, and filled
+     * in once {@code logic} completes, timing both as stages of {@code startupTimer}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(CompletableFuture<Logic> logic, GuiSettings guiSettings, StartupTimer startupTimer) {
         this.logic = logic;
+        this.guiSettings = guiSettings;
+        this.startupTimer = startupTimer;
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
 
-        //Set the application icon.
-        primaryStage.getIcons().add(getImage(ICON_APPLICATION));
-
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
-            mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
-
+            startupTimer.time("build main window", () -> {
+                //Set the application icon.
+                primaryStage.getIcons().add(getImage(ICON_APPLICATION));
+
+                mainWindow = new MainWindow(primaryStage, guiSettings);
+                mainWindow.show(); //This should be called before creating other UI parts
+                mainWindow.fillInnerParts();
+            });
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            return;
         }
+
+        logic.whenComplete((loadedLogic, error) -> Platform.runLater(() -> {
+            try {
+                if (error != null) {
+                    throw error instanceof CompletionException ? error.getCause() : error;
+                }
+                startupTimer.time("show data", () -> mainWindow.setLogic(loadedLogic));
+                startupTimer.logFinished();
+            } catch (Throwable e) {
+                logger.severe(StringUtil.getDetails(e));
+                showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            }
+        }));
     }
 
     private Image getImage(String imagePath) {
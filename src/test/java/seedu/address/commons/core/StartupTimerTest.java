@@ -0,0 +1,34 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    private final StartupTimer timer = new StartupTimer();
+
+    @Test
+    public void time_supplier_returnsResult() {
+        assertEquals("data", timer.time("read data", () -> "data"));
+    }
+
+    @Test
+    public void time_runnable_runsStage() {
+        AtomicBoolean isRun = new AtomicBoolean();
+        timer.time("build window", () -> isRun.set(true));
+        assertTrue(isRun.get());
+    }
+
+    @Test
+    public void time_failingStage_exceptionPropagated() {
+        Runnable stage = () -> {
+            throw new IllegalStateException();
+        };
+        assertThrows(IllegalStateException.class, () -> timer.time("read data", stage));
+    }
+}
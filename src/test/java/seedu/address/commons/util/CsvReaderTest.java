@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_quotedFields_unquoted() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader(
+                "a,\"b,c\",\"say \"\"hi\"\"\"\r\n\"two\nlines\",,x\n"));
+        assertEquals(List.of("a", "b,c", "say \"hi\""), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("two\nlines", "", "x"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_byteOrderMarkAndBlankLines_skipped() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,phone\n\n\r\nAlice,123\r\rBob,456"));
+        assertEquals(List.of("name", "phone"), reader.readRecord());
+        assertEquals(List.of("Alice", "123"), reader.readRecord());
+        assertEquals(4, reader.getRecordLineNumber());
+        assertEquals(List.of("Bob", "456"), reader.readRecord());
+        assertEquals(6, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\"c,d\n"));
+        reader.readRecord();
+        assertThrows(IOException.class, "Line 2: a quoted field is not closed", reader::readRecord);
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws Exception {
+        List<String> fields = List.of("", "plain", "with, comma", "with \"quotes\"", "with\r\nline break", "");
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(fields);
+        assertEquals(",plain,\"with, comma\",\"with \"\"quotes\"\"\",\"with\r\nline break\",\n", out.toString());
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        assertEquals(fields, reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+}
@@ -1,13 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +37,69 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void getLastModifiedTime_someFilesMissing_returnsLatestOfExisting() throws Exception {
+        Path older = testFolder.resolve("older.txt");
+        Path newer = testFolder.resolve("newer.txt");
+        Path missing = testFolder.resolve("missing.txt");
+        assertEquals(Optional.empty(), FileUtil.getLastModifiedTime(missing));
+
+        FileUtil.writeToFile(older, "older");
+        FileUtil.writeToFile(newer, "newer");
+        FileTime olderTime = FileTime.fromMillis(1_000_000);
+        FileTime newerTime = FileTime.fromMillis(2_000_000);
+        Files.setLastModifiedTime(older, olderTime);
+        Files.setLastModifiedTime(newer, newerTime);
+        assertEquals(Optional.of(newerTime), FileUtil.getLastModifiedTime(older, missing, newer));
+        assertEquals(Optional.of(olderTime), FileUtil.getLastModifiedTime(missing, older));
+    }
+
+    @Test
+    public void writeToFile_missingParentAndExistingFile_writesContent() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_compressedFile_gzipsContent() throws Exception {
+        Path file = testFolder.resolve("file.txt.gz");
+        FileUtil.writeToFile(file, "compressed content");
+
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals((byte) GZIPInputStream.GZIP_MAGIC, bytes[0]);
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals("compressed content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void newInputStream_deflateFile_inflatesContent() throws Exception {
+        Path file = testFolder.resolve("file.txt.gz");
+        try (OutputStream out = new DeflaterOutputStream(Files.newOutputStream(file))) {
+            out.write("deflated content".getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals("deflated content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsOldContentAndNoTempFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
@@ -0,0 +1,65 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = ParallelRecordConverter.CHUNK_SIZE * 10 + 7;
+
+    @Test
+    public void convertAll_manyChunks_keepsOrder() throws Exception {
+        List<Integer> records = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+        List<String> expected = records.stream().map(String::valueOf).collect(Collectors.toList());
+        assertEquals(expected, ParallelRecordConverter.convertAll(records, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_severalInvalidRecords_reportsFirstInOrder() {
+        List<Integer> records = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+        int firstInvalid = ParallelRecordConverter.CHUNK_SIZE * 3 + 5;
+        int laterInvalid = ParallelRecordConverter.CHUNK_SIZE * 8;
+
+        assertThrows(IllegalValueException.class, "invalid " + firstInvalid, () ->
+                ParallelRecordConverter.convertAll(records, record -> {
+                    if (record == firstInvalid || record == laterInvalid) {
+                        throw new IllegalValueException("invalid " + record);
+                    }
+                    return record;
+                }));
+    }
+
+    @Test
+    public void finish_sinkRejectsEarlierRecord_reportsSinkError() throws Exception {
+        int rejected = 10;
+        List<Integer> accepted = new ArrayList<>();
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(record -> {
+            if (record == RECORD_COUNT - 1) {
+                throw new IllegalValueException("invalid record");
+            }
+            return record;
+        }, model -> {
+            if (model == rejected) {
+                throw new IllegalValueException("duplicate record");
+            }
+            accepted.add(model);
+        });
+
+        assertThrows(IllegalValueException.class, "duplicate record", () -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(i);
+            }
+            converter.finish();
+        });
+        assertEquals(rejected, accepted.size());
+    }
+}
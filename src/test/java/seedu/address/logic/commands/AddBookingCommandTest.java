@@ -5,8 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,8 +27,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
+import seedu.address.model.booking.exceptions.BookingLoadingException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
@@ -91,6 +101,18 @@ public class AddBookingCommandTest {
                 AddBookingCommand.MESSAGE_INVALID_PERSON, () -> command.execute(modelStub));
     }
 
+    @Test
+    public void execute_monthNotLoaded_personUnchanged() {
+        final Person person = new PersonBuilder().build();
+        final ModelStubFailingToLoad modelStub = new ModelStubFailingToLoad(person);
+        final AddBookingCommand command = new AddBookingCommand(person.getPhone(),
+                LocalDateTime.of(2024, 1, 10, 19, 0), "Dinner", 4);
+
+        assertThrows(BookingLoadingException.class, () -> command.execute(modelStub));
+        assertTrue(person.getBookingIDs().isEmpty());
+        assertTrue(modelStub.getAddressBook().getBookingList().isEmpty());
+    }
+
     @Test
     public void equals() {
         final Phone phone1 = new Phone("12345678");
@@ -155,6 +177,11 @@ public class AddBookingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
 
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
@@ -181,6 +208,21 @@ public class AddBookingCommandTest {
 
         }
 
+        @Override
+        public Set<Phone> findPhonesByNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Phone> findPhonesByTags(Collection<Tag> tags, boolean isMatchAll) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -196,6 +238,66 @@ public class AddBookingCommandTest {
 
         }
 
+        @Override
+        public void addBookings(List<Booking> bookings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteBooking(Booking target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBookingStatus(int bookingId, Status newStatus) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasCancelledOrCompletedBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Booking getBooking(int bookingId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Booking> getBookingsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getBookingCount(Status status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadBookingsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Booking> getFilteredBookingList() {
             return null;
@@ -235,9 +337,33 @@ public class AddBookingCommandTest {
             return addressBook;
         }
 
+        @Override
+        public Person getPersonByPhone(Phone phone) {
+            return addressBook.getPersonByPhone(phone);
+        }
+
+        @Override
+        public void loadBookingsBetween(LocalDate start, LocalDate end) {
+            addressBook.loadBookingsBetween(start, end);
+        }
+
         @Override
         public void addBooking(Booking booking) {
             addressBook.addBooking(booking);
         }
     }
+
+    /**
+     * A Model stub that fails to load the bookings of any month.
+     */
+    private class ModelStubFailingToLoad extends ModelStubAcceptingBooking {
+        ModelStubFailingToLoad(Person person) {
+            super(person);
+        }
+
+        @Override
+        public void loadBookingsBetween(LocalDate start, LocalDate end) {
+            throw new BookingLoadingException(YearMonth.from(start), new IOException("missing segment"));
+        }
+    }
 }
@@ -6,8 +6,12 @@ import static seedu.address.logic.commands.EditBookingCommand.MESSAGE_EDIT_BOOKI
 import static seedu.address.logic.commands.EditBookingCommand.MESSAGE_PAST_BOOKING_WARNING;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,7 +25,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class EditBookingCommandTest {
@@ -113,6 +120,11 @@ public class EditBookingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
 
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
@@ -139,6 +151,21 @@ public class EditBookingCommandTest {
 
         }
 
+        @Override
+        public Set<Phone> findPhonesByNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Phone> findPhonesByTags(Collection<Tag> tags, boolean isMatchAll) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -154,6 +181,66 @@ public class EditBookingCommandTest {
 
         }
 
+        @Override
+        public void addBookings(List<Booking> bookings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteBooking(Booking target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBookingStatus(int bookingId, Status newStatus) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasCancelledOrCompletedBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Booking getBooking(int bookingId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Booking> getBookingsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getBookingCount(Status status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadBookingsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Booking> getFilteredBookingList() {
             return null;
@@ -195,6 +282,16 @@ public class EditBookingCommandTest {
             return addressBook;
         }
 
+        @Override
+        public Booking getBooking(int bookingId) {
+            return addressBook.getBooking(bookingId);
+        }
+
+        @Override
+        public void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit) {
+            addressBook.updateBooking(target, fieldsToEdit);
+        }
+
         @Override
         public void addBooking(Booking booking) {
             addressBook.addBooking(booking);
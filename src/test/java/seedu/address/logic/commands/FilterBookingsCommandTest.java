@@ -4,7 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,7 @@ import seedu.address.model.booking.Booking;
 import seedu.address.model.booking.Status;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class FilterBookingsCommandTest {
@@ -165,6 +171,11 @@ public class FilterBookingsCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
 
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
@@ -191,6 +202,21 @@ public class FilterBookingsCommandTest {
 
         }
 
+        @Override
+        public Set<Phone> findPhonesByNameKeywords(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Phone> findPhonesByTags(Collection<Tag> tags, boolean isMatchAll) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -206,6 +232,66 @@ public class FilterBookingsCommandTest {
 
         }
 
+        @Override
+        public void addBookings(List<Booking> bookings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteBooking(Booking target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateBooking(Booking target, HashMap<String, Object> fieldsToEdit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBookingStatus(int bookingId, Status newStatus) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasCancelledOrCompletedBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Booking getBooking(int bookingId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Booking> getBookingsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getBookingCount(Status status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadBookingsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllBookings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Booking> getFilteredBookingList() {
             return null;
@@ -247,6 +333,26 @@ public class FilterBookingsCommandTest {
             return addressBook;
         }
 
+        @Override
+        public Person getPersonByPhone(Phone phone) {
+            return addressBook.getPersonByPhone(phone);
+        }
+
+        @Override
+        public List<Booking> getBookingsOn(LocalDate date) {
+            return addressBook.getBookingsOn(date);
+        }
+
+        @Override
+        public void loadBookingsBetween(LocalDate start, LocalDate end) {
+            addressBook.loadBookingsBetween(start, end);
+        }
+
+        @Override
+        public void loadAllBookings() {
+            addressBook.loadAllBookings();
+        }
+
         @Override
         public ObservableList<Booking> getFilteredBookingList() {
             return filteredBookings;
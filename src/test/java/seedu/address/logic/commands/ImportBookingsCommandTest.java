@@ -0,0 +1,139 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportBookingsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Person amy;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        amy = new PersonBuilder().withName("Amy Bee").withPhone("11111111").build();
+        bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").build();
+        model.addPerson(amy);
+        model.addPerson(bob);
+    }
+
+    @Test
+    public void execute_validRows_bookingsAddedToPersons() throws Exception {
+        Path file = write("bookings.csv",
+                "date,phone,pax,remark,status",
+                "2025-10-10 7:00 PM,11111111,4,\"Birthday, window seat\",",
+                "2025-10-11 12:30 PM,22222222,2,,Completed");
+
+        CommandResult result = new ImportBookingsCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "bookings", file), result.getFeedbackToUser());
+        List<Booking> bookings = model.getAddressBook().getBookingList();
+        assertEquals(2, bookings.size());
+        Booking amysBooking = bookings.get(0);
+        assertEquals(amy, amysBooking.getBookingPerson());
+        assertEquals(LocalDateTime.of(2025, 10, 10, 19, 0), amysBooking.getBookingDateTime());
+        assertEquals("Birthday, window seat", amysBooking.getRemarks());
+        assertEquals(4, amysBooking.getPax());
+        assertEquals(Status.UPCOMING, amysBooking.getStatus());
+        assertTrue(amy.getBookingIDs().contains(amysBooking.getBookingId()));
+        assertEquals(Status.COMPLETED, bookings.get(1).getStatus());
+        assertTrue(bob.getBookingIDs().contains(bookings.get(1).getBookingId()));
+    }
+
+    @Test
+    public void execute_invalidRows_rejectedAndReported() throws Exception {
+        Path file = write("bookings.csv",
+                "date,phone,pax",
+                "2025-10-10 7:00 PM,33333333,4",
+                "2025-10-10 7:00 PM,11111111,0",
+                "2025-10-10 7:00 PM,11111111,4");
+
+        CommandResult result = new ImportBookingsCommand(file).execute(model);
+
+        Path reportPath = ImportCommand.getReportPath(file);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, "bookings", file)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 2, reportPath), result.getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getBookingList().size());
+        String report = Files.readString(reportPath);
+        assertTrue(report.contains("Line 2: " + AddBookingCommand.MESSAGE_INVALID_PERSON));
+        assertTrue(report.contains("Line 3: Pax should be"));
+    }
+
+    @Test
+    public void execute_repeatedRow_rejectedAsDuplicate() throws Exception {
+        Path file = write("bookings.csv",
+                "date,phone,pax",
+                "2025-10-10 7:00 PM,11111111,4",
+                "2025-10-10 7:00 PM,11111111,2",
+                "2025-10-10 7:00 PM,22222222,2");
+
+        CommandResult result = new ImportBookingsCommand(file).execute(model);
+
+        Path reportPath = ImportCommand.getReportPath(file);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "bookings", file)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 1, reportPath), result.getFeedbackToUser());
+        assertEquals(1, amy.getBookingIDs().size());
+        assertTrue(Files.readString(reportPath).contains("Line 3: " + ImportCommand.MESSAGE_DUPLICATE_ROW));
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path file = write("bookings.csv", "date,pax", "2025-10-10 7:00 PM,4");
+        assertCommandFailure(new ImportBookingsCommand(file), model,
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, file, "phone", "date,phone,pax,remark,status"));
+    }
+
+    @Test
+    public void execute_exported_importedAsBefore() throws Exception {
+        Path importFile = write("bookings.csv",
+                "date,phone,pax,remark,status",
+                "2025-10-10 7:00 PM,11111111,4,\"Say \"\"hi\"\"\",Cancelled",
+                "2025-10-11 12:30 PM,22222222,2,,Upcoming");
+        new ImportBookingsCommand(importFile).execute(model);
+        Path exportFile = testFolder.resolve("exported.csv");
+
+        CommandResult result = new ExportBookingsCommand(exportFile).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, "bookings", exportFile),
+                result.getFeedbackToUser());
+        assertEquals(Files.readString(importFile), Files.readString(exportFile));
+    }
+
+    @Test
+    public void equals() {
+        ImportBookingsCommand importFirst = new ImportBookingsCommand(Path.of("first.csv"));
+
+        assertEquals(importFirst, new ImportBookingsCommand(Path.of("first.csv")));
+        assertNotEquals(importFirst, new ImportBookingsCommand(Path.of("second.csv")));
+        assertNotEquals(importFirst, new ExportBookingsCommand(Path.of("first.csv")));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportPersonsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_validRows_personsAdded() throws Exception {
+        Path file = write("persons.csv",
+                "Phone,Name,Email,Address,Member,Tags",
+                "11111111,Amy Bee,amy@example.com,\"Block 312, Amy Street 1\",yes,friend vip",
+                "22222222,Bob Choo,bob@example.com,Block 123,,");
+        Model model = new ModelManager();
+
+        CommandResult result = new ImportPersonsCommand(file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "persons", file), result.getFeedbackToUser());
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(2, persons.size());
+        Person amy = persons.get(0);
+        assertEquals("Amy Bee", amy.getName().fullName);
+        assertEquals("Block 312, Amy Street 1", amy.getAddress().value);
+        assertTrue(amy.getMemberStatus());
+        assertEquals(Set.of(Tag.of("friend"), Tag.of("vip")), amy.getTags());
+        assertFalse(persons.get(1).getMemberStatus());
+        assertTrue(persons.get(1).getTags().isEmpty());
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_rejectedAndReported() throws Exception {
+        Path file = write("persons.csv",
+                "name,phone,email,address",
+                "Amy Bee,11111111,amy@example.com,Block 312",
+                "Bad Phone,12ab,bad@example.com,Block 1",
+                "Amy Again,11111111,amy2@example.com,Block 313",
+                "Existing,33333333,existing@example.com,Block 4",
+                "Bob Choo,22222222,bob@example.com,Block 123");
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withPhone("33333333").build());
+
+        CommandResult result = new ImportPersonsCommand(file).execute(model);
+
+        Path reportPath = ImportCommand.getReportPath(file);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "persons", file)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 3, reportPath), result.getFeedbackToUser());
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+
+        String report = Files.readString(reportPath);
+        assertTrue(report.contains("Line 3: " + Phone.MESSAGE_CONSTRAINTS));
+        assertTrue(report.contains("    Bad Phone,12ab,bad@example.com,Block 1"));
+        assertTrue(report.contains("Line 4: " + ImportCommand.MESSAGE_DUPLICATE_ROW));
+        assertTrue(report.contains("Line 5: " + AddPersonCommand.MESSAGE_DUPLICATE_PERSON));
+        assertTrue(report.contains("Imported 2 of 5 rows, rejected 3"));
+    }
+
+    @Test
+    public void execute_manyRows_insertedInBatches() throws Exception {
+        int rowCount = ImportCommand.BATCH_SIZE * 2 + 5;
+        List<String> lines = IntStream.range(0, rowCount)
+                .mapToObj(i -> "Person " + i + "," + (10000000 + i) + ",p" + i + "@example.com,Block " + i)
+                .collect(Collectors.toList());
+        lines.add(0, "name,phone,email,address");
+        Path file = write("persons.csv", lines.toArray(new String[0]));
+        Model model = new ModelManager();
+
+        new ImportPersonsCommand(file).execute(model);
+
+        List<Person> persons = model.getAddressBook().getPersonList();
+        assertEquals(rowCount, persons.size());
+        assertEquals("Person 0", persons.get(0).getName().fullName);
+        assertEquals("Person " + (rowCount - 1), persons.get(rowCount - 1).getName().fullName);
+        assertTrue(Files.readString(ImportCommand.getReportPath(file))
+                .contains("imported " + ImportCommand.BATCH_SIZE * 2 + " persons so far"));
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path file = write("persons.csv", "name,email", "Amy Bee,amy@example.com");
+        assertCommandFailure(new ImportPersonsCommand(file), new ModelManager(),
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, file, "phone, address",
+                        "name,phone,email,address,member,tags"));
+        assertFalse(Files.exists(ImportCommand.getReportPath(file)));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path file = write("persons.csv");
+        assertCommandFailure(new ImportPersonsCommand(file), new ModelManager(),
+                String.format(ImportCommand.MESSAGE_NO_HEADER, file));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportPersonsCommand(file), new ModelManager(),
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void execute_exported_importedAsBefore() throws Exception {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+                .withAddress("Block 312, \"Amy\" Street 1").withTags("friend", "vip").build());
+        model.addPerson(new PersonBuilder().withName("Bob Choo").withPhone("22222222").build());
+        Path file = testFolder.resolve("persons.csv.gz");
+
+        CommandResult result = new ExportPersonsCommand(file).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, "persons", file), result.getFeedbackToUser());
+
+        Model importedModel = new ModelManager();
+        new ImportPersonsCommand(file).execute(importedModel);
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(importedModel.getAddressBook()));
+    }
+
+    @Test
+    public void equals() {
+        ImportPersonsCommand importFirst = new ImportPersonsCommand(Path.of("first.csv"));
+        ImportPersonsCommand importSecond = new ImportPersonsCommand(Path.of("second.csv"));
+
+        assertEquals(importFirst, importFirst);
+        assertEquals(importFirst, new ImportPersonsCommand(Path.of("first.csv")));
+        assertNotEquals(importFirst, importSecond);
+        assertNotEquals(importFirst, new ImportBookingsCommand(Path.of("first.csv")));
+        assertNotEquals(importFirst, null);
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,8 +19,12 @@ import seedu.address.logic.commands.DeletePersonCommand;
 import seedu.address.logic.commands.EditPersonCommand;
 import seedu.address.logic.commands.EditPersonCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportBookingsCommand;
+import seedu.address.logic.commands.ExportPersonsCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportBookingsCommand;
+import seedu.address.logic.commands.ImportPersonsCommand;
 import seedu.address.logic.commands.ListPersonsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -88,6 +93,20 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_importAndExport() throws Exception {
+        assertEquals(new ImportPersonsCommand(Paths.get("data", "persons.csv")),
+                parser.parseCommand(ImportPersonsCommand.COMMAND_WORD + "  data/persons.csv "));
+        assertEquals(new ImportBookingsCommand(Paths.get("bookings.csv")),
+                parser.parseCommand(ImportBookingsCommand.COMMAND_WORD + " bookings.csv"));
+        assertEquals(new ExportPersonsCommand(Paths.get("persons.csv")),
+                parser.parseCommand(ExportPersonsCommand.COMMAND_WORD + " persons.csv"));
+        assertEquals(new ExportBookingsCommand(Paths.get("bookings.csv")),
+                parser.parseCommand(ExportBookingsCommand.COMMAND_WORD + " bookings.csv"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportPersonsCommand.MESSAGE_USAGE), () -> parser.parseCommand(ImportPersonsCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListPersonsCommand.COMMAND_WORD) instanceof ListPersonsCommand);
@@ -5,11 +5,16 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonHasPhonePredicate;
+import seedu.address.model.person.PersonHasTagsPredicate;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 public class FindPersonsCommandParserTest {
 
@@ -31,4 +36,44 @@ public class FindPersonsCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validTagArgs_returnsFindCommand() {
+        Set<Tag> tags = Set.of(new Tag("vip"), new Tag("regular"));
+
+        // no preamble -> matches any tag
+        assertParseSuccess(parser, " t/vip t/regular", new FindCommand(new PersonHasTagsPredicate(tags, false)));
+        assertParseSuccess(parser, " any t/vip t/regular", new FindCommand(new PersonHasTagsPredicate(tags, false)));
+
+        // all -> matches all tags
+        assertParseSuccess(parser, " ALL t/vip t/regular", new FindCommand(new PersonHasTagsPredicate(tags, true)));
+    }
+
+    @Test
+    public void parse_phoneArg_returnsFindCommand() {
+        assertParseSuccess(parser, " p/98765432",
+                new FindCommand(new PersonHasPhonePredicate(new Phone("98765432"))));
+    }
+
+    @Test
+    public void parse_invalidPhoneArgs_throwsParseException() {
+        // keywords or tags with a phone number
+        assertParseFailure(parser, " alice p/98765432",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " p/98765432 t/vip",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid phone number
+        assertParseFailure(parser, " p/12", Phone.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidTagArgs_throwsParseException() {
+        // unknown preamble
+        assertParseFailure(parser, " alice t/vip",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid tag
+        assertParseFailure(parser, " t/not#valid", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
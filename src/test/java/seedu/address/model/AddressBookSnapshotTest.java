@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void update_changedPerson_copiesOnlyThatPerson() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        addressBook.takeChanges();
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("vip").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        AddressBookSnapshot updated = snapshot.update(addressBook, addressBook.takeChanges());
+
+        assertEquals(addressBook.getPersonList(), updated.getPersonList());
+        assertNotSame(snapshot.getPersonList().get(0), updated.getPersonList().get(0));
+        int bensonIndex = addressBook.getPersonList().indexOf(BENSON);
+        assertSame(snapshot.getPersonList().get(bensonIndex), updated.getPersonList().get(bensonIndex));
+    }
+
+    @Test
+    public void update_severalUpdates_listsSourceInOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        addressBook.takeChanges();
+
+        addressBook.removePerson(BENSON);
+        snapshot = snapshot.update(addressBook, addressBook.takeChanges());
+        Person carlWithNewPhone = new PersonBuilder(CARL).withPhone("91234567").build();
+        addressBook.setPerson(CARL, carlWithNewPhone);
+        snapshot = snapshot.update(addressBook, addressBook.takeChanges());
+        addressBook.addPerson(new PersonBuilder(HOON).build());
+        snapshot = snapshot.update(addressBook, addressBook.takeChanges());
+
+        // the persons that changed can be looked up before the lists are built
+        assertNull(snapshot.getPerson(BENSON.getPhone()));
+        assertNull(snapshot.getPerson(CARL.getPhone()));
+        assertEquals(carlWithNewPhone, snapshot.getPerson(carlWithNewPhone.getPhone()));
+        assertEquals(ALICE, snapshot.getPerson(ALICE.getPhone()));
+
+        // an edited person keeps its place
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertSame(snapshot.getPerson(ALICE.getPhone()), snapshot.getPersonList().get(0));
+    }
+
+    @Test
+    public void constructor_sourceChangedLater_snapshotUnchanged() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).build());
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        addressBook.getPersonList().get(0).addBookingID(1);
+
+        assertEquals(new PersonBuilder(ALICE).build().getBookingIDs(),
+                snapshot.getPersonList().get(0).getBookingIDs());
+    }
+}
@@ -2,13 +2,17 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,8 +23,12 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingArchive;
+import seedu.address.model.booking.exceptions.BookingLoadingException;
+import seedu.address.model.booking.exceptions.BookingNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.BookingBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -79,6 +87,81 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void takeChanges_newAddressBook_allChanged() {
+        assertTrue(addressBook.takeChanges().isAllChanged());
+        assertTrue(addressBook.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_afterEdits_returnsChangedPersonsOnce() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.takeChanges();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        AddressBookChanges changes = addressBook.takeChanges();
+        assertFalse(changes.isAllChanged());
+        assertTrue(changes.isPersonChanged(ALICE.getPhone()));
+        assertFalse(changes.isPersonChanged(BENSON.getPhone()));
+
+        assertTrue(addressBook.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void addBooking_unloadedMonth_loadsMonthFirst() {
+        Booking archived = new BookingBuilder().withBookingDateTime("2024-01-10T19:00").build();
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addBookingID(archived.getBookingId());
+        addressBook.addPerson(alice);
+        addressBook.setBookingArchive(new BookingArchiveStub(YearMonth.of(2024, 1), archived),
+                List.of(YearMonth.of(2024, 1)));
+
+        Booking added = new BookingBuilder().withBookingDateTime("2024-01-20T19:00").build();
+        addressBook.addBooking(added);
+
+        assertTrue(addressBook.getUnloadedBookingMonths().isEmpty());
+        assertTrue(addressBook.hasBooking(archived.getBookingId()));
+        assertSame(alice, archived.getBookingPerson());
+    }
+
+    @Test
+    public void getBooking_bookingInArchive_loadsArchive() {
+        Booking archived = new BookingBuilder().withBookingDateTime("2024-01-10T19:00").build();
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addBookingID(archived.getBookingId());
+        addressBook.addPerson(alice);
+        addressBook.setBookingArchive(new BookingArchiveStub(YearMonth.of(2024, 1), archived),
+                List.of(YearMonth.of(2024, 1)));
+
+        assertSame(archived, addressBook.getBooking(archived.getBookingId()));
+        assertTrue(addressBook.getUnloadedBookingMonths().isEmpty());
+    }
+
+    @Test
+    public void removePerson_missingBooking_personKept() {
+        Booking booking = new BookingBuilder().build();
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addBookingID(booking.getBookingId());
+        alice.addBookingID(booking.getBookingId() + 1);
+        addressBook.addPerson(alice);
+        addressBook.addBooking(booking);
+
+        assertThrows(BookingNotFoundException.class, () -> addressBook.removePerson(alice));
+        assertTrue(addressBook.hasPerson(alice));
+        assertTrue(addressBook.hasBooking(booking.getBookingId()));
+    }
+
+    @Test
+    public void loadAllBookings_archiveFails_bookingsUnchanged() {
+        addressBook.setBookingArchive(new BookingArchiveStub(YearMonth.of(2024, 1)),
+                List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 2)));
+
+        assertThrows(BookingLoadingException.class, addressBook::loadAllBookings);
+        assertEquals(2, addressBook.getUnloadedBookingMonths().size());
+        assertTrue(addressBook.getBookingList().isEmpty());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -90,6 +173,32 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    /**
+     * A stub BookingArchive holding the given bookings of one month, which fails to load any other month.
+     */
+    private static class BookingArchiveStub implements BookingArchive {
+        private final YearMonth month;
+        private final List<Booking> bookings;
+
+        BookingArchiveStub(YearMonth month, Booking... bookings) {
+            this.month = month;
+            this.bookings = Arrays.asList(bookings);
+        }
+
+        @Override
+        public List<Booking> loadMonth(YearMonth month) {
+            if (!month.equals(this.month)) {
+                throw new BookingLoadingException(month, new IOException("missing segment"));
+            }
+            return bookings;
+        }
+
+        @Override
+        public int getMaxBookingId() {
+            return bookings.stream().mapToInt(Booking::getBookingId).max().orElse(0);
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
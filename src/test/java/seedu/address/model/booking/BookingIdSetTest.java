@@ -0,0 +1,88 @@
+package seedu.address.model.booking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BookingIdSetTest {
+
+    @Test
+    public void of_unsortedWithDuplicates_sortedAndDistinct() {
+        BookingIdSet set = BookingIdSet.of(5, 1, 3, 1, 5);
+        assertArrayEquals(new int[] {1, 3, 5}, set.toArray());
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void add_newAndExistingIds_keepsSortedOrder() {
+        BookingIdSet set = new BookingIdSet();
+        assertTrue(set.add(7));
+        assertTrue(set.add(2));
+        assertTrue(set.add(4));
+        assertFalse(set.add(4));
+        assertArrayEquals(new int[] {2, 4, 7}, set.toArray());
+    }
+
+    @Test
+    public void remove_existingAndMissingIds() {
+        BookingIdSet set = BookingIdSet.of(1, 2, 3);
+        assertTrue(set.remove(2));
+        assertFalse(set.remove(2));
+        assertFalse(set.contains(2));
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(3));
+        assertArrayEquals(new int[] {1, 3}, set.toArray());
+    }
+
+    @Test
+    public void forEachAndGet_ascendingOrder() {
+        BookingIdSet set = BookingIdSet.of(7, 2, 5);
+        List<Integer> visited = new ArrayList<>();
+        set.forEach(visited::add);
+        assertEquals(List.of(2, 5, 7), visited);
+        assertEquals(2, set.get(0));
+        assertEquals(7, set.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.get(3));
+    }
+
+    @Test
+    public void copyConstructor_modifyCopy_originalUnchanged() {
+        BookingIdSet original = BookingIdSet.of(1, 2);
+        BookingIdSet copy = new BookingIdSet(original);
+        copy.add(3);
+        assertFalse(original.contains(3));
+        assertEquals(BookingIdSet.of(1, 2), original);
+    }
+
+    @Test
+    public void equals() {
+        BookingIdSet set = BookingIdSet.of(1, 2, 3);
+
+        // same values -> returns true
+        assertTrue(set.equals(BookingIdSet.of(3, 2, 1)));
+        assertEquals(set.hashCode(), BookingIdSet.of(3, 2, 1).hashCode());
+
+        // same object -> returns true
+        assertTrue(set.equals(set));
+
+        // null -> returns false
+        assertFalse(set.equals(null));
+
+        // different values -> returns false
+        assertNotEquals(set, BookingIdSet.of(1, 2));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("[]", new BookingIdSet().toString());
+        assertEquals("[1, 2, 3]", BookingIdSet.of(3, 1, 2).toString());
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBookings.ALICES_BOOKING;
+import static seedu.address.testutil.TypicalBookings.BENSONS_BOOKING;
+import static seedu.address.testutil.TypicalBookings.CARLS_BOOKING;
+import static seedu.address.testutil.TypicalBookings.ELLES_BOOKING;
+import static seedu.address.testutil.TypicalBookings.FIONAS_BOOKING;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.booking.exceptions.BookingNotFoundException;
+import seedu.address.testutil.BookingBuilder;
+
+public class UniqueBookingListTest {
+
+    private final UniqueBookingList uniqueBookingList = new UniqueBookingList();
+
+    @Test
+    public void getBookingsBetween_bookingsInRange_returnsEarliestFirst() {
+        uniqueBookingList.setBookings(Arrays.asList(FIONAS_BOOKING, ALICES_BOOKING, BENSONS_BOOKING, CARLS_BOOKING));
+
+        List<Booking> result = uniqueBookingList.getBookingsBetween(
+                LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 10, 31, 20, 0));
+
+        // end is exclusive, so Fiona's booking at 2025-10-31T20:00 is not included
+        assertEquals(Arrays.asList(CARLS_BOOKING, ALICES_BOOKING), result);
+    }
+
+    @Test
+    public void getBookingsBetween_emptyRange_returnsEmptyList() {
+        uniqueBookingList.add(ALICES_BOOKING);
+        LocalDateTime time = ALICES_BOOKING.getBookingDateTime();
+        assertTrue(uniqueBookingList.getBookingsBetween(time, time).isEmpty());
+        assertTrue(uniqueBookingList.getBookingsBetween(time.plusHours(1), time).isEmpty());
+    }
+
+    @Test
+    public void getBookingsOn_date_returnsOnlyBookingsOnThatDate() {
+        uniqueBookingList.setBookings(Arrays.asList(ALICES_BOOKING, BENSONS_BOOKING, FIONAS_BOOKING));
+        assertEquals(List.of(ALICES_BOOKING), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 10, 10)));
+        assertTrue(uniqueBookingList.getBookingsOn(LocalDate.of(2025, 10, 11)).isEmpty());
+    }
+
+    @Test
+    public void getBookingsOn_afterRemove_excludesRemovedBooking() {
+        uniqueBookingList.add(ALICES_BOOKING);
+        uniqueBookingList.remove(ALICES_BOOKING);
+        assertTrue(uniqueBookingList.getBookingsOn(LocalDate.of(2025, 10, 10)).isEmpty());
+    }
+
+    @Test
+    public void updateBooking_newDateTime_reindexesBooking() {
+        Booking booking = new BookingBuilder().withBookingDateTime("2025-01-01T12:00").build();
+        uniqueBookingList.add(booking);
+
+        HashMap<String, Object> fieldsToEdit = new HashMap<>();
+        fieldsToEdit.put("bookingDateTime", LocalDateTime.of(2025, 2, 1, 12, 0));
+        uniqueBookingList.updateBooking(booking, fieldsToEdit);
+
+        assertTrue(uniqueBookingList.getBookingsOn(LocalDate.of(2025, 1, 1)).isEmpty());
+        assertEquals(List.of(booking), uniqueBookingList.getBookingsOn(LocalDate.of(2025, 2, 1)));
+    }
+
+    @Test
+    public void updateBooking_bookingNotInList_throwsBookingNotFoundException() {
+        assertThrows(BookingNotFoundException.class, () ->
+                uniqueBookingList.updateBooking(ALICES_BOOKING, new HashMap<>()));
+    }
+
+    @Test
+    public void getUpcomingBookings_unsortedInput_returnsEarliestFirst() {
+        uniqueBookingList.setBookings(Arrays.asList(ALICES_BOOKING, BENSONS_BOOKING, CARLS_BOOKING));
+        assertEquals(Arrays.asList(CARLS_BOOKING, ALICES_BOOKING), uniqueBookingList.getUpcomingBookings());
+    }
+
+    @Test
+    public void getCancelledOrCompletedBookings_mixedStatuses_returnsEarliestFirst() {
+        uniqueBookingList.setBookings(Arrays.asList(FIONAS_BOOKING, ALICES_BOOKING, BENSONS_BOOKING, ELLES_BOOKING));
+        assertEquals(Arrays.asList(BENSONS_BOOKING, ELLES_BOOKING, FIONAS_BOOKING),
+                uniqueBookingList.getCancelledOrCompletedBookings());
+    }
+
+    @Test
+    public void setBookingStatus_existingBooking_movesBookingBetweenPartitions() {
+        Booking booking = new BookingBuilder().withStatus("UPCOMING").build();
+        uniqueBookingList.add(booking);
+        assertEquals(1, uniqueBookingList.getBookingCount(Status.UPCOMING));
+
+        uniqueBookingList.setBookingStatus(booking.getBookingId(), Status.COMPLETED);
+
+        assertEquals(0, uniqueBookingList.getBookingCount(Status.UPCOMING));
+        assertEquals(1, uniqueBookingList.getBookingCount(Status.COMPLETED));
+        assertTrue(uniqueBookingList.getUpcomingBookings().isEmpty());
+        assertEquals(List.of(booking), uniqueBookingList.getCancelledOrCompletedBookings());
+    }
+
+    @Test
+    public void setBookingStatus_bookingNotInList_throwsBookingNotFoundException() {
+        assertThrows(BookingNotFoundException.class, () ->
+                uniqueBookingList.setBookingStatus(ALICES_BOOKING.getBookingId(), Status.CANCELLED));
+    }
+
+    @Test
+    public void getBookingCount_afterClearBookings_countsUpdated() {
+        uniqueBookingList.setBookings(Arrays.asList(ALICES_BOOKING, BENSONS_BOOKING, ELLES_BOOKING));
+        uniqueBookingList.clearBookings(uniqueBookingList.getCancelledOrCompletedBookings());
+
+        assertEquals(1, uniqueBookingList.getBookingCount(Status.UPCOMING));
+        assertEquals(0, uniqueBookingList.getBookingCount(Status.COMPLETED));
+        assertEquals(0, uniqueBookingList.getBookingCount(Status.CANCELLED));
+        assertFalse(uniqueBookingList.isEmpty());
+    }
+
+    @Test
+    public void remove_middleBooking_remainingBookingsStillReplaceable() {
+        Booking first = new BookingBuilder().build();
+        Booking second = new BookingBuilder().build();
+        Booking third = new BookingBuilder().build();
+        uniqueBookingList.setBookings(Arrays.asList(first, second, third));
+
+        uniqueBookingList.remove(first);
+        assertEquals(2, uniqueBookingList.asUnmodifiableObservableList().size());
+        assertFalse(uniqueBookingList.asUnmodifiableObservableList().contains(first));
+
+        // the booking moved into the freed position can still be replaced in place
+        Booking editedThird = new BookingBuilder().build();
+        uniqueBookingList.setBooking(third, editedThird);
+        uniqueBookingList.removeById(second.getBookingId());
+        assertEquals(List.of(editedThird), uniqueBookingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_middleBooking_keepsOrderWithOneChange() {
+        uniqueBookingList.setBookings(Arrays.asList(ALICES_BOOKING, BENSONS_BOOKING, CARLS_BOOKING, ELLES_BOOKING));
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueBookingList.asUnmodifiableObservableList().addListener((ListChangeListener<Booking>) change ->
+                changeCount.add(1));
+
+        uniqueBookingList.remove(BENSONS_BOOKING);
+
+        assertEquals(List.of(ALICES_BOOKING, CARLS_BOOKING, ELLES_BOOKING),
+                uniqueBookingList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+        // the positions of the bookings after it are still right
+        uniqueBookingList.remove(ELLES_BOOKING);
+        assertEquals(List.of(ALICES_BOOKING, CARLS_BOOKING), uniqueBookingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_severalBookings_removesOnlyThoseBookings() {
+        Booking first = new BookingBuilder().build();
+        Booking second = new BookingBuilder().build();
+        Booking third = new BookingBuilder().build();
+        uniqueBookingList.setBookings(Arrays.asList(first, second, third));
+
+        uniqueBookingList.removeAll(Arrays.asList(third, first));
+
+        assertEquals(List.of(second), uniqueBookingList.asUnmodifiableObservableList());
+        assertFalse(uniqueBookingList.contains(first.getBookingId()));
+        assertEquals(1, uniqueBookingList.getBookingCount(Status.UPCOMING));
+
+        // positions are still valid after the bulk removal
+        uniqueBookingList.remove(second);
+        assertTrue(uniqueBookingList.isEmpty());
+    }
+
+    @Test
+    public void removeAll_bookingNotInList_throwsBookingNotFoundExceptionAndKeepsList() {
+        Booking first = new BookingBuilder().build();
+        Booking missing = new BookingBuilder().build();
+        uniqueBookingList.add(first);
+
+        assertThrows(BookingNotFoundException.class, () ->
+                uniqueBookingList.removeAll(Arrays.asList(first, missing)));
+        assertEquals(List.of(first), uniqueBookingList.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Measures how long {@link UniquePersonList#findByPrefix} takes, as the command box does on every keystroke of a
+ * find keyword, for prefixes of one to three characters over lists of increasing size. Run with
+ * {@code gradlew prefixSearchBenchmark}, optionally passing person counts as arguments,
+ * e.g. {@code gradlew prefixSearchBenchmark --args="10000 100000"}.
+ * Not a test: timings depend on the machine, so nothing is asserted.
+ */
+public class PersonPrefixSearchBenchmark {
+
+    private static final int[] DEFAULT_PERSON_COUNTS = {10_000, 100_000};
+    private static final String[] PREFIXES = {"p", "pe", "per", "8", "800"};
+    private static final String[] FIRST_NAMES = {"Patrick", "Pearl", "Perch", "Sandy", "Squidward", "Larry"};
+    private static final int LIMIT = 10;
+    private static final int RUNS = 200;
+
+    public static void main(String[] args) {
+        int[] personCounts = args.length == 0
+                ? DEFAULT_PERSON_COUNTS
+                : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        System.out.printf("%10s %8s %10s %12s%n", "persons", "prefix", "matches", "search (us)");
+        for (int personCount : personCounts) {
+            UniquePersonList persons = createPersons(personCount);
+            for (String prefix : PREFIXES) {
+                run(persons, prefix);
+            }
+        }
+    }
+
+    /**
+     * Searches {@code persons} for {@code prefix} several times, and prints the best time.
+     */
+    private static void run(UniquePersonList persons, String prefix) {
+        long bestNanos = Long.MAX_VALUE;
+        int matches = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            matches = persons.findByPrefix(prefix, LIMIT).size();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%10d %8s %10d %12.1f%n", persons.asUnmodifiableObservableList().size(), prefix, matches,
+                bestNanos / 1_000.0);
+    }
+
+    /**
+     * Returns a list of {@code personCount} persons, whose first names are shared among many of them.
+     */
+    private static UniquePersonList createPersons(int personCount) {
+        UniquePersonList persons = new UniquePersonList();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(new Person(new Name(FIRST_NAMES[i % FIRST_NAMES.length] + " Person " + i),
+                    new Phone(String.valueOf(80_000_000 + i)), new Email("person" + i + "@example.com"),
+                    new Address(i + " Bikini Bottom"), Set.of(), false));
+        }
+        return persons;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -24,6 +25,13 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_equalTags_sharesTagInstances() {
+        Person amy = new PersonBuilder().withTags("vip").build();
+        Person bob = new PersonBuilder(BOB).withTags("vip").build();
+        assertSame(amy.getTags().iterator().next(), bob.getTags().iterator().next());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -2,21 +2,30 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +56,139 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPerson_nullPhone_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getPerson(null));
+    }
+
+    @Test
+    public void getPerson_phoneNotInList_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.getPerson(BOB.getPhone()));
+    }
+
+    @Test
+    public void getPerson_phoneInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPerson(ALICE.getPhone()));
+    }
+
+    @Test
+    public void getPerson_afterSetPersonAndRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertNull(uniquePersonList.getPerson(ALICE.getPhone()));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getPhone()));
+
+        uniquePersonList.remove(BOB);
+        assertNull(uniquePersonList.getPerson(BOB.getPhone()));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findByNameKeywords_matchingKeywords_returnsPhones() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        // whole word, case-insensitive, any keyword
+        assertEquals(Set.of(BENSON.getPhone(), CARL.getPhone(), DANIEL.getPhone()),
+                uniquePersonList.findByNameKeywords(Arrays.asList("mEIER", "kurz")));
+
+        // partial words do not match
+        assertEquals(Collections.emptySet(), uniquePersonList.findByNameKeywords(Arrays.asList("Meie", "Ali")));
+
+        // no keywords
+        assertEquals(Collections.emptySet(), uniquePersonList.findByNameKeywords(Collections.emptyList()));
+    }
+
+    @Test
+    public void findByNameKeywords_afterSetPersonAndRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+
+        assertEquals(Collections.emptySet(), uniquePersonList.findByNameKeywords(Arrays.asList("Alice")));
+        assertEquals(Set.of(renamedAlice.getPhone()), uniquePersonList.findByNameKeywords(Arrays.asList("pauline")));
+
+        uniquePersonList.remove(renamedAlice);
+        assertEquals(Collections.emptySet(), uniquePersonList.findByNameKeywords(Arrays.asList("pauline")));
+    }
+
+    @Test
+    public void findByTags_anyAndAll_returnsPhones() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        List<Tag> tags = Arrays.asList(new Tag("owesMoney"), new Tag("friends"));
+        Set<Phone> friends = Set.of(ALICE.getPhone(), BENSON.getPhone(), DANIEL.getPhone());
+
+        assertEquals(friends, uniquePersonList.findByTags(tags, false));
+        assertEquals(Set.of(BENSON.getPhone()), uniquePersonList.findByTags(tags, true));
+
+        // a tag nobody has
+        List<Tag> withUnknownTag = Arrays.asList(new Tag("friends"), new Tag("unknown"));
+        assertEquals(friends, uniquePersonList.findByTags(withUnknownTag, false));
+        assertEquals(Collections.emptySet(), uniquePersonList.findByTags(withUnknownTag, true));
+
+        // no tags
+        assertEquals(Collections.emptySet(), uniquePersonList.findByTags(Collections.emptyList(), true));
+    }
+
+    @Test
+    public void findByTags_afterSetPerson_reflectsChanges() {
+        uniquePersonList.add(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withTags("vip").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+
+        assertEquals(Collections.emptySet(), uniquePersonList.findByTags(Arrays.asList(new Tag("friends")), false));
+        assertEquals(Set.of(editedBenson.getPhone()),
+                uniquePersonList.findByTags(Arrays.asList(new Tag("vip")), true));
+    }
+
+    @Test
+    public void findByPrefix_namePrefix_returnsPersonsWithMatchingWord() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), uniquePersonList.findByPrefix("mEi", 10));
+        assertEquals(Arrays.asList(CARL), uniquePersonList.findByPrefix("ku", 10));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPrefix("zz", 10));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPrefix("  ", 10));
+    }
+
+    @Test
+    public void findByPrefix_phonePrefix_returnsPersonsWithMatchingPhone() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        String alicePhone = ALICE.getPhone().value;
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.findByPrefix(alicePhone.substring(0, 6), 10));
+    }
+
+    @Test
+    public void findByPrefix_limit_returnsAtMostLimitPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(1, uniquePersonList.findByPrefix("meier", 1).size());
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPrefix("meier", 0));
+    }
+
+    @Test
+    public void findByPrefix_moreMatchesThanLimit_returnsFirstByMatchingWord() {
+        uniquePersonList.setPersons(Arrays.asList(HOON, ELLE));
+        // Elle Meyer comes before Hoon Meier by name, but "meier" comes before "meyer"
+        assertEquals(Arrays.asList(HOON), uniquePersonList.findByPrefix("me", 1));
+        assertEquals(Arrays.asList(HOON, ELLE), uniquePersonList.findByPrefix("me", 10));
+    }
+
+    @Test
+    public void findByPrefix_sameMatchingWord_returnsInNameOrder() {
+        Person bensonMeier = new PersonBuilder(BENSON).withName("Ann Meier").build();
+        uniquePersonList.setPersons(Arrays.asList(HOON, bensonMeier));
+        assertEquals(Arrays.asList(bensonMeier, HOON), uniquePersonList.findByPrefix("meier", 10));
+    }
+
+    @Test
+    public void findByPrefix_afterRemove_excludesRemovedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPrefix("Ali", 10));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPrefix(ALICE.getPhone().value, 10));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -154,6 +296,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getPhone()));
     }
 
     @Test
@@ -162,6 +306,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonExceptionAndKeepsList() {
+        uniquePersonList.add(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BENSON, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(Arrays.asList(CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertNull(uniquePersonList.getPerson(ALICE.getPhone()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.booking.BookingIdSet;
+import seedu.address.model.booking.Status;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares how long the JSON, gzipped JSON, binary and SQLite address book storages take to save and load address
+ * books of increasing size, how large their files are, and how long they take to snapshot and save again after a
+ * single booking changes, as the app does after each command. Run with {@code gradlew benchmark}, optionally passing
+ * booking counts as arguments, e.g. {@code gradlew benchmark --args="10000 100000"}.
+ * Not a test: timings depend on the machine, so nothing is asserted.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int[] DEFAULT_BOOKING_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int BOOKINGS_PER_PERSON = 5;
+    private static final int RUNS = 3;
+
+    /**
+     * A storage under measurement, created afresh for each run so that no state is carried between runs.
+     */
+    private interface StorageFactory {
+        AddressBookStorage create(Path filePath);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] bookingCounts = args.length == 0
+                ? DEFAULT_BOOKING_COUNTS
+                : Stream.of(args).mapToInt(Integer::parseInt).toArray();
+        Path folder = Files.createTempDirectory("addressbook-benchmark");
+        try {
+            System.out.printf("%-8s %10s %12s %10s %10s %12s%n", "format", "bookings", "file (KiB)", "save (ms)",
+                    "load (ms)", "resave (ms)");
+            for (int bookingCount : bookingCounts) {
+                AddressBook addressBook = createAddressBook(bookingCount);
+                run("json", JsonAddressBookStorage::new, addressBook, folder.resolve("addressbook.json"));
+                run("json.gz", JsonAddressBookStorage::new, addressBook, folder.resolve("addressbook.json.gz"));
+                run("binary", BinaryAddressBookStorage::new, addressBook, folder.resolve("addressbook.bin"));
+                run("sqlite", SqliteAddressBookStorage::new, addressBook, folder.resolve("addressbook.db"));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(folder)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves and loads {@code addressBook} with a storage from {@code factory}, then changes one booking and saves it
+     * again with the same storage, and prints the best of several runs.
+     */
+    private static void run(String format, StorageFactory factory, AddressBook addressBook, Path filePath)
+            throws Exception {
+        long bestSaveNanos = Long.MAX_VALUE;
+        long bestLoadNanos = Long.MAX_VALUE;
+        long bestResaveNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            Files.deleteIfExists(filePath);
+            addressBook.takeChanges();
+            AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+            AddressBookStorage storage = factory.create(filePath);
+            long start = System.nanoTime();
+            storage.saveAddressBook(snapshot);
+            long saved = System.nanoTime();
+            ReadOnlyAddressBook loaded = factory.create(filePath).readAddressBook().get();
+            long end = System.nanoTime();
+            if (loaded.getBookingList().size() != addressBook.getBookingList().size()) {
+                throw new IllegalStateException(format + " storage lost bookings");
+            }
+
+            Booking booking = addressBook.getBookingList().get(i);
+            Status status = booking.getStatus();
+            addressBook.setBookingStatus(booking.getBookingId(), status == Status.UPCOMING ? Status.COMPLETED
+                    : Status.UPCOMING);
+            // the snapshot is taken on the command's thread, so it counts towards the cost of saving after a command
+            long resaveStart = System.nanoTime();
+            AddressBookChanges changes = addressBook.takeChanges();
+            AddressBookSnapshot changed = snapshot.update(addressBook, changes);
+            storage.saveAddressBook(changed, changes);
+            long resaved = System.nanoTime();
+            addressBook.setBookingStatus(booking.getBookingId(), status);
+
+            bestSaveNanos = Math.min(bestSaveNanos, saved - start);
+            bestLoadNanos = Math.min(bestLoadNanos, end - saved);
+            bestResaveNanos = Math.min(bestResaveNanos, resaved - resaveStart);
+        }
+        System.out.printf("%-8s %10d %12d %10d %10d %12.1f%n", format, addressBook.getBookingList().size(),
+                Files.size(filePath) / 1024, bestSaveNanos / 1_000_000, bestLoadNanos / 1_000_000,
+                bestResaveNanos / 1_000_000.0);
+    }
+
+    /**
+     * Returns an address book with {@code bookingCount} bookings, shared out among persons.
+     */
+    private static AddressBook createAddressBook(int bookingCount) {
+        int personCount = Math.max(1, bookingCount / BOOKINGS_PER_PERSON);
+        Set<Tag> tags = Set.of(Tag.of("regular"), Tag.of("vip"));
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        List<Booking> bookings = new ArrayList<>(bookingCount);
+        for (int id = 0; id < bookingCount; id++) {
+            bookings.add(new Booking(id, start.plusMinutes(30L * id), start.minusDays(1).plusSeconds(id),
+                    Status.values()[id % Status.values().length], "Booking " + id, 1 + id % 8));
+        }
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            BookingIdSet bookingIds = new BookingIdSet();
+            for (int id = i; id < bookingCount; id += personCount) {
+                bookingIds.add(id);
+            }
+            persons.add(new Person(new Name("Person " + i), new Phone(String.valueOf(80_000_000 + i)),
+                    new Email("person" + i + "@example.com"), new Address(i + " Bikini Bottom"),
+                    i % 3 == 0 ? tags : Set.of(), i % 2 == 0, bookingIds));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setBookings(bookings);
+        return addressBook;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_sameAsJson() throws Exception {
+        AddressBook original = getAddressBookWithBookings();
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook fromBinary = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        ReadOnlyAddressBook fromJson = new JsonAddressBookStorage(jsonFilePath).readAddressBook().get();
+        assertEquals(new AddressBook(fromJson), new AddressBook(fromBinary));
+        assertEquals(fromJson.getBookingList(), fromBinary.getBookingList());
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidPax_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        Booking tooLarge = new BookingBuilder().withPax(String.valueOf(Booking.MAX_PAX + 1)).build();
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addBookingID(tooLarge.getBookingId());
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addBooking(tooLarge);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getAddressBookWithBookings());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getAddressBookWithBookings());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void importAndExportJson_roundTrip_sameAddressBook() throws Exception {
+        AddressBook original = getAddressBookWithBookings();
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertTrue(storage.importFromJson(jsonFilePath));
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        assertTrue(storage.exportToJson(exportedFilePath));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportedFilePath).readAddressBook().get()));
+        assertFalse(storage.importFromJson(testFolder.resolve("missing.json")));
+    }
+
+    /**
+     * Returns an address book whose persons hold its bookings, including one made at a time with nanoseconds.
+     */
+    private static AddressBook getAddressBookWithBookings() {
+        Booking first = new BookingBuilder().withBookingDateTime("1969-12-31T23:59")
+                .withBookingMadeDateTime("2025-01-01T10:15:30.123456789").withRemarks("window seat").build();
+        Booking second = new BookingBuilder().withStatus("COMPLETED").withPax("12").build();
+        Person alice = new PersonBuilder(ALICE).withTags("friends", "vip").build();
+        alice.addBookingID(first.getBookingId());
+        alice.addBookingID(second.getBookingId());
+        Person benson = new PersonBuilder(BENSON).withTags("vip").build();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(benson);
+        addressBook.addBooking(first);
+        addressBook.addBooking(second);
+        return addressBook;
+    }
+}
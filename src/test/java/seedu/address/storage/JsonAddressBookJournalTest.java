@@ -0,0 +1,279 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_afterFirstSave_appendsChangesToJournal() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        Path journalPath = JsonAddressBookJournal.getJournalPath(snapshotPath);
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+
+        journal.save(addressBook);
+        assertFalse(Files.exists(journalPath));
+        String snapshot = Files.readString(snapshotPath);
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        journal.save(addressBook);
+
+        // one record per change, and the snapshot is left alone
+        List<String> records = Files.readAllLines(journalPath);
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).startsWith("{\"removePerson\":"));
+        assertTrue(records.get(1).startsWith("{\"putPerson\":"));
+        assertEquals(snapshot, Files.readString(snapshotPath));
+
+        // saving without changes appends nothing
+        journal.save(addressBook);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        assertEquals(addressBook, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void save_updatedSnapshots_appendsOnlyChangedEntities() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        addressBook.takeChanges();
+        journal.save(snapshot);
+
+        addressBook.setPerson(GEORGE, new PersonBuilder(GEORGE).withTags("vip").build());
+        journal.save(snapshot.update(addressBook, addressBook.takeChanges()));
+
+        assertEquals(1, Files.readAllLines(JsonAddressBookJournal.getJournalPath(snapshotPath)).size());
+        assertEquals(addressBook, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void save_withChanges_appendsRecordsOfChangedEntitiesOnly() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        journal.save(snapshot, addressBook.takeChanges());
+
+        addressBook.addPerson(new PersonBuilder(HOON).build());
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(GEORGE, new PersonBuilder(GEORGE).withTags("vip").build());
+        AddressBookChanges changes = addressBook.takeChanges();
+        journal.save(snapshot.update(addressBook, changes), changes);
+
+        List<String> records = Files.readAllLines(JsonAddressBookJournal.getJournalPath(snapshotPath));
+        assertEquals(3, records.size());
+        assertTrue(records.get(0).startsWith("{\"removePerson\":"));
+        assertTrue(records.get(1).startsWith("{\"putPerson\":"));
+        assertTrue(records.get(2).startsWith("{\"putPerson\":"));
+        assertEquals(addressBook, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void save_personMutatedInPlace_appendsChange() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).build());
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+        journal.save(addressBook);
+
+        // the same person object with different details must not be mistaken for an unchanged one
+        addressBook.getPersonList().get(0).addBookingID(42);
+        journal.save(addressBook);
+
+        assertEquals(1, Files.readAllLines(JsonAddressBookJournal.getJournalPath(snapshotPath)).size());
+    }
+
+    @Test
+    public void save_afterRead_appendsOnlyNewChanges() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookJournal(snapshotPath).save(addressBook);
+
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+        AddressBook readBack = new AddressBook(journal.read().get());
+        readBack.setPerson(GEORGE, new PersonBuilder(GEORGE).withTags("vip").build());
+        journal.save(readBack);
+
+        assertEquals(1, Files.readAllLines(JsonAddressBookJournal.getJournalPath(snapshotPath)).size());
+        assertEquals(readBack, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void save_journalLargerThanSnapshot_compactsIntoSnapshot() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        Path journalPath = JsonAddressBookJournal.getJournalPath(snapshotPath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath, 0);
+        journal.save(addressBook);
+
+        // with no minimum size, a journal that outgrows the snapshot is folded into it
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        addressBook.addPerson(GEORGE);
+        journal.save(addressBook);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void read_incompleteLastRecord_ignoresRecord() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        Path journalPath = JsonAddressBookJournal.getJournalPath(snapshotPath);
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+        journal.save(addressBook);
+        addressBook.addPerson(HOON);
+        journal.save(addressBook);
+
+        Files.writeString(journalPath, "{\"putPerson\":{\"name\":\"Ida", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertEquals(addressBook, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void save_afterIncompleteLastRecord_journalStillReadable() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        Path journalPath = JsonAddressBookJournal.getJournalPath(snapshotPath);
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookJournal(snapshotPath).save(addressBook);
+        Files.writeString(journalPath, "{\"putPerson\":{\"name\":\"Ida", StandardCharsets.UTF_8);
+
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+        AddressBook read = new AddressBook(journal.read().get());
+        read.addPerson(HOON);
+        journal.save(read);
+        read.addPerson(IDA);
+        journal.save(read);
+
+        assertEquals(read, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void read_corruptedRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        Path journalPath = JsonAddressBookJournal.getJournalPath(snapshotPath);
+        new JsonAddressBookJournal(snapshotPath).save(getTypicalAddressBook());
+        Files.writeString(journalPath, "not json\n{\"removePerson\":\"94351253\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookJournal(snapshotPath).read());
+    }
+
+    @Test
+    public void read_corruptedSnapshot_recoversFromRotatedSnapshotAndJournals() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath, 0);
+        journal.save(addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        addressBook.addPerson(GEORGE);
+        journal.save(addressBook);
+        Path rotatedPath = JsonAddressBookJournal.getRotatedSnapshotPath(snapshotPath, 1);
+        assertTrue(Files.exists(rotatedPath));
+        addressBook.removePerson(ALICE);
+        journal.save(addressBook);
+
+        // the changes in the journal of the rotated snapshot make up for the lost snapshot
+        damage(snapshotPath, Files.readString(snapshotPath).replace("Hoon", "Hoan"));
+        JsonAddressBookJournal recoveringJournal = new JsonAddressBookJournal(snapshotPath);
+        AddressBook recovered = new AddressBook(recoveringJournal.read().get());
+        assertEquals(addressBook, recovered);
+
+        // the next save replaces the corrupted snapshot
+        recoveringJournal.save(recovered);
+        assertFalse(Files.exists(JsonAddressBookJournal.getJournalPath(snapshotPath)));
+        assertEquals(addressBook, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void read_missingSnapshotAfterRotation_recoversFromRotatedSnapshot() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json.gz");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookJournal journal = new JsonAddressBookJournal(snapshotPath);
+        journal.save(addressBook);
+        addressBook.addPerson(HOON);
+        journal.save(addressBook);
+
+        // as after a crash between rotating the snapshot and writing the new one
+        Path rotatedPath = JsonAddressBookJournal.getRotatedSnapshotPath(snapshotPath, 1);
+        assertEquals("addressBook.json.1.gz", rotatedPath.getFileName().toString());
+        Files.move(snapshotPath, rotatedPath);
+
+        assertEquals(addressBook, readAddressBook(snapshotPath));
+    }
+
+    @Test
+    public void save_manySnapshots_keepsOnlyRotatedSnapshots() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        for (int i = 0; i <= JsonAddressBookJournal.ROTATED_SNAPSHOTS + 1; i++) {
+            // a new journal has nothing to compare with, so each save writes a snapshot
+            new JsonAddressBookJournal(snapshotPath).save(addressBook);
+        }
+
+        // each snapshot with its header
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2 * (JsonAddressBookJournal.ROTATED_SNAPSHOTS + 1), files.count());
+        }
+    }
+
+    @Test
+    public void read_everySnapshotCorrupted_throwsDataLoadingException() throws Exception {
+        Path snapshotPath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookJournal(snapshotPath).save(getTypicalAddressBook());
+        new JsonAddressBookJournal(snapshotPath).save(getTypicalAddressBook());
+        damage(snapshotPath, "{}");
+        Path rotatedPath = JsonAddressBookJournal.getRotatedSnapshotPath(snapshotPath, 1);
+        damage(rotatedPath, Files.readString(rotatedPath).replace("Alice", "Alicia"));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookJournal(snapshotPath).read());
+    }
+
+    private AddressBook readAddressBook(Path snapshotPath) throws Exception {
+        return new AddressBook(new JsonAddressBookJournal(snapshotPath).read().get());
+    }
+
+    /**
+     * Replaces the contents of the file at {@code path} with {@code content}, keeping its last modified time,
+     * as when the disk damages it.
+     */
+    private static void damage(Path path, String content) throws Exception {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+        Files.writeString(path, content);
+        Files.setLastModifiedTime(path, lastModifiedTime);
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalBookings.getTypicalAddressBookWithBookings;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_BOOKINGS_FILE = TEST_DATA_FOLDER.resolve("typicalBookingsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private final JsonAddressBookReader reader = new JsonAddressBookReader();
+
+    @Test
+    public void readFile_typicalBookingsFile_sameAsBindingWholeFile() throws Exception {
+        reader.readFile(TYPICAL_BOOKINGS_FILE);
+        AddressBook streamed = reader.toModelType();
+
+        AddressBook bound = JsonUtil.readJsonFile(TYPICAL_BOOKINGS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        assertEquals(bound, streamed);
+        assertEquals(bound.getBookingList(), streamed.getBookingList());
+    }
+
+    @Test
+    public void readFile_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                reader.readFile(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readFile_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                reader.readFile(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readFile_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> reader.readFile(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void readFile_snapshot_readsAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithBookings();
+        reader.readFile(writeSnapshot(addressBook));
+        assertEquals(addressBook, reader.toModelType());
+    }
+
+    @Test
+    public void readFile_snapshotWithChangedByte_throwsIoException() throws Exception {
+        Path snapshotPath = writeSnapshot(getTypicalAddressBookWithBookings());
+        String snapshot = Files.readString(snapshotPath);
+        // still a valid address book, so only the checksum tells that it changed
+        damage(snapshotPath, snapshot.replaceFirst("94351253", "94351254").getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, "The data does not match its checksum", () ->
+                reader.readFile(snapshotPath));
+    }
+
+    @Test
+    public void readFile_snapshotWithInvalidValue_reportsChecksumMismatch() throws Exception {
+        Path snapshotPath = writeSnapshot(getTypicalAddressBookWithBookings());
+        String snapshot = Files.readString(snapshotPath);
+        damage(snapshotPath, snapshot.replaceFirst("alice@example.com", "alice example.com")
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, "The data does not match its checksum", () ->
+                reader.readFile(snapshotPath));
+    }
+
+    @Test
+    public void readFile_truncatedSnapshot_throwsIoException() throws Exception {
+        Path snapshotPath = writeSnapshot(getTypicalAddressBookWithBookings());
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        damage(snapshotPath, Arrays.copyOf(snapshot, snapshot.length / 2));
+
+        assertThrows(IOException.class, () -> reader.readFile(snapshotPath));
+    }
+
+    @Test
+    public void readFile_snapshotEditedAfterSave_readsUnchecked() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithBookings();
+        Path snapshotPath = writeSnapshot(addressBook);
+        String snapshot = Files.readString(snapshotPath);
+        assertTrue(snapshot.startsWith("{"));
+        Files.writeString(snapshotPath, snapshot.replaceFirst("alice@example.com", "alice@example.org"));
+        // as when edited by hand later, whatever the resolution of the file system's clock
+        Path headerPath = JsonAdaptedSnapshotHeader.getHeaderPath(snapshotPath);
+        Files.setLastModifiedTime(snapshotPath, FileTime.fromMillis(
+                Files.getLastModifiedTime(headerPath).toMillis() + 60_000));
+
+        reader.readFile(snapshotPath);
+        assertEquals("alice@example.org", reader.toModelType().getPersonByPhone(ALICE.getPhone()).getEmail().value);
+    }
+
+    @Test
+    public void readFile_dataAfterAddressBook_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{\"snapshotVersion\":1}\n{\"persons\":[]}\n");
+
+        assertThrows(IOException.class, () -> reader.readFile(filePath));
+    }
+
+    private Path writeSnapshot(AddressBook addressBook) throws IOException {
+        Path snapshotPath = testFolder.resolve("snapshot.json");
+        JsonAddressBookWriter.writeSnapshot(snapshotPath, addressBook.getPersonList(), addressBook.getBookingList(),
+                true);
+        return snapshotPath;
+    }
+
+    /**
+     * Replaces the contents of the file at {@code path} with {@code bytes}, keeping its last modified time,
+     * as when the disk damages it.
+     */
+    private static void damage(Path path, byte[] bytes) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(path);
+        Files.write(path, bytes);
+        Files.setLastModifiedTime(path, lastModifiedTime);
+    }
+}
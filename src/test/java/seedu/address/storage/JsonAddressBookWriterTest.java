@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalBookings.ALICES_BOOKING;
+import static seedu.address.testutil.TypicalBookings.getTypicalAddressBookWithBookings;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_pretty_sameAsAdaptedAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithBookings();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                write(addressBook, true));
+    }
+
+    @Test
+    public void write_compact_sameAsAdaptedAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithBookings();
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(addressBook)),
+                write(addressBook, false));
+    }
+
+    @Test
+    public void toCompactJson_sameAsAdaptedPersonAndBooking() throws Exception {
+        assertEquals(JsonUtil.toCompactJsonString(new JsonAdaptedPerson(ALICE)),
+                JsonAddressBookWriter.toCompactJson(ALICE));
+        assertEquals(JsonUtil.toCompactJsonString(new JsonAdaptedBooking(ALICES_BOOKING)),
+                JsonAddressBookWriter.toCompactJson(ALICES_BOOKING));
+    }
+
+    private static String write(AddressBook addressBook, boolean isPretty) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookWriter.write(out, addressBook.getPersonList(), addressBook.getBookingList(), isPretty);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
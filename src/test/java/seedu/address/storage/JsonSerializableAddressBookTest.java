@@ -1,16 +1,24 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalBookings;
 import seedu.address.testutil.TypicalPersons;
 
@@ -63,4 +71,28 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_orphanBookings_droppedAndOthersLinkedInOrder() throws Exception {
+        Booking first = new BookingBuilder().build();
+        Booking orphan = new BookingBuilder().build();
+        Booking second = new BookingBuilder().build();
+        Person alice = new PersonBuilder(TypicalPersons.ALICE).build();
+        alice.addBookingID(second.getBookingId());
+        alice.addBookingID(first.getBookingId());
+
+        AddressBook addressBook = JsonSerializableAddressBook.toModelType(List.of(alice),
+                Arrays.asList(unlinked(first), unlinked(orphan), unlinked(second)));
+
+        assertEquals(2, addressBook.getBookingList().size());
+        assertEquals(first.getBookingId(), addressBook.getBookingList().get(0).getBookingId());
+        assertEquals(second.getBookingId(), addressBook.getBookingList().get(1).getBookingId());
+        assertFalse(addressBook.hasBooking(orphan.getBookingId()));
+        assertSame(alice, addressBook.getBookingList().get(0).getBookingPerson());
+    }
+
+    private static Booking unlinked(Booking booking) {
+        return new Booking(booking.getBookingId(), booking.getBookingDateTime(), booking.getBookingMadeDateTime(),
+                booking.getStatus(), booking.getRemarks(), booking.getPax());
+    }
 }
@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final YearMonth FIRST_RECENT_MONTH = YearMonth.of(2025, 9);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_oldMonth_loadedOnlyWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getAddressBookWithBookings();
+        new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH).saveAddressBook(original);
+
+        AddressBook read = (AddressBook) new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH)
+                .readAddressBook().get();
+        // the old month with an upcoming booking is loaded at startup, the completed one is not
+        assertEquals(Set.of(YearMonth.of(2024, 1)), read.getUnloadedBookingMonths());
+        assertEquals(2, read.getBookingList().size());
+
+        read.loadAllBookings();
+        assertTrue(read.getUnloadedBookingMonths().isEmpty());
+        assertEquals(original.getBookingList().size(), read.getBookingList().size());
+        Person alice = read.getPersonByPhone(ALICE.getPhone());
+        for (Booking booking : read.getBookingList()) {
+            assertSame(alice, booking.getBookingPerson());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_monthsNotLoaded_keptInStorage() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH).saveAddressBook(getAddressBookWithBookings());
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Booking added = new BookingBuilder().withBookingDateTime("2025-11-01T12:00").build();
+        Person alice = addressBook.getPersonByPhone(ALICE.getPhone());
+        alice.addBookingID(added.getBookingId());
+        addressBook.addBooking(added);
+        storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+
+        AddressBook read = (AddressBook) new SegmentedAddressBookStorage(filePath, YearMonth.of(2000, 1))
+                .readAddressBook().get();
+        assertTrue(read.getUnloadedBookingMonths().isEmpty());
+        assertEquals(4, read.getBookingList().size());
+        assertTrue(read.hasBooking(added.getBookingId()));
+    }
+
+    @Test
+    public void saveAddressBook_jsonFile_splitIntoSegments() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getAddressBookWithBookings();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH);
+        AddressBook read = (AddressBook) storage.readAddressBook().get();
+        assertEquals(original.getBookingList().size(), read.getBookingList().size());
+        storage.saveAddressBook(read);
+
+        Path segmentDirectory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        assertTrue(Files.exists(segmentDirectory.resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertTrue(Files.exists(segmentDirectory.resolve("2024-01.json")));
+        assertFalse(Files.exists(JsonAddressBookJournal.getJournalPath(filePath)));
+
+        AddressBook reread = new AddressBook(new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH)
+                .readAddressBook().get());
+        reread.loadAllBookings();
+        assertEquals(original, reread);
+        assertEquals(original.getBookingList().size(), reread.getBookingList().size());
+    }
+
+    @Test
+    public void saveAddressBook_monthEmptied_segmentDeleted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH);
+        AddressBook addressBook = getAddressBookWithBookings();
+        storage.saveAddressBook(addressBook);
+
+        Booking recent = addressBook.getBookingList().stream()
+                .filter(booking -> booking.getBookingDateTime().getYear() == 2025).findFirst().get();
+        addressBook.removeBooking(recent);
+        storage.saveAddressBook(addressBook);
+
+        Path segmentDirectory = SegmentedAddressBookStorage.getSegmentDirectory(filePath);
+        assertFalse(Files.exists(segmentDirectory.resolve("2025-10.json")));
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        read.loadAllBookings();
+        assertEquals(2, read.getBookingList().size());
+    }
+
+    @Test
+    public void readAddressBook_saveInterruptedBeforePersonsFile_removedBookingIdDropped() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH);
+        AddressBook addressBook = getAddressBookWithBookings();
+        Booking removed = new BookingBuilder().withBookingDateTime("2025-10-20T19:00").build();
+        Person alice = addressBook.getPersonByPhone(ALICE.getPhone());
+        alice.addBookingID(removed.getBookingId());
+        addressBook.addBooking(removed);
+        storage.saveAddressBook(addressBook);
+
+        // the persons file of the first save is put back, as if the second save stopped before writing it
+        Path savedPersons = testFolder.resolve("saved.json");
+        Path headerPath = JsonAdaptedSnapshotHeader.getHeaderPath(filePath);
+        Files.copy(filePath, savedPersons, StandardCopyOption.COPY_ATTRIBUTES);
+        Files.copy(headerPath, JsonAdaptedSnapshotHeader.getHeaderPath(savedPersons),
+                StandardCopyOption.COPY_ATTRIBUTES);
+        addressBook.removeBooking(removed);
+        storage.saveAddressBook(addressBook);
+        Files.copy(savedPersons, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        Files.copy(JsonAdaptedSnapshotHeader.getHeaderPath(savedPersons), headerPath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+
+        AddressBook read = new AddressBook(new SegmentedAddressBookStorage(filePath, FIRST_RECENT_MONTH)
+                .readAddressBook().get());
+        Person readAlice = read.getPersonByPhone(ALICE.getPhone());
+        assertFalse(readAlice.getBookingIDs().contains(removed.getBookingId()));
+        assertEquals(3, readAlice.getBookingIDs().size());
+        read.loadAllBookings();
+        assertEquals(3, read.getBookingList().size());
+    }
+
+    /**
+     * Returns an address book whose first person holds a completed booking and an upcoming one in early 2024,
+     * and an upcoming booking in October 2025.
+     */
+    private static AddressBook getAddressBookWithBookings() {
+        Booking completed = new BookingBuilder().withBookingDateTime("2024-01-10T19:00").withStatus("COMPLETED")
+                .build();
+        Booking upcoming = new BookingBuilder().withBookingDateTime("2024-02-10T19:00").build();
+        Booking recent = new BookingBuilder().withBookingDateTime("2025-10-10T19:00").build();
+        Person alice = new PersonBuilder(ALICE).build();
+        alice.addBookingID(completed.getBookingId());
+        alice.addBookingID(upcoming.getBookingId());
+        alice.addBookingID(recent.getBookingId());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(new PersonBuilder(BENSON).build());
+        addressBook.addBooking(completed);
+        addressBook.addBooking(upcoming);
+        addressBook.addBooking(recent);
+        return addressBook;
+    }
+}
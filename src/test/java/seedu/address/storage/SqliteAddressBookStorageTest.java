@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.booking.Booking;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.BookingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SqliteAddressBookStorageTest {
+
+    private static final YearMonth FIRST_RECENT_MONTH = YearMonth.of(2025, 9);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.db");
+        assertFalse(new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getAddressBookWithBookings());
+
+        assertThrows(DataLoadingException.class, () ->
+                new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_oldMonth_loadedOnlyWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        AddressBook original = getAddressBookWithBookings();
+        new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH).saveAddressBook(original);
+
+        AddressBook read = (AddressBook) new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH)
+                .readAddressBook().get();
+        // the old month with an upcoming booking is loaded at startup, the completed one is not
+        assertEquals(Set.of(YearMonth.of(2024, 1)), read.getUnloadedBookingMonths());
+        assertEquals(2, read.getBookingList().size());
+
+        read.loadAllBookings();
+        assertEquals(original, read);
+        assertEquals(original.getBookingList().size(), read.getBookingList().size());
+        Person alice = read.getPersonByPhone(ALICE.getPhone());
+        for (Booking booking : read.getBookingList()) {
+            assertSame(alice, booking.getBookingPerson());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_oneChange_onlyChangedRowWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH);
+        AddressBook addressBook = getAddressBookWithBookings();
+        storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+
+        // a row the next save does not write keeps this change, made behind the storage's back
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + filePath);
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE persons SET email = 'changed@example.com' WHERE phone = '"
+                    + BENSON.getPhone() + "'");
+        }
+        Person alice = addressBook.getPersonByPhone(ALICE.getPhone());
+        addressBook.setPerson(alice, new PersonBuilder(alice).withName("Alice Changed").build());
+        storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+
+        AddressBook read = (AddressBook) new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH)
+                .readAddressBook().get();
+        assertEquals("Alice Changed", read.getPersonByPhone(ALICE.getPhone()).getName().fullName);
+        assertEquals("changed@example.com", read.getPersonByPhone(BENSON.getPhone()).getEmail().value);
+    }
+
+    @Test
+    public void saveAddressBook_monthsNotLoaded_keptInStorage() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH).saveAddressBook(getAddressBookWithBookings());
+
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Booking added = new BookingBuilder().withBookingDateTime("2025-11-01T12:00").build();
+        Person alice = addressBook.getPersonByPhone(ALICE.getPhone());
+        alice.addBookingID(added.getBookingId());
+        addressBook.addBooking(added);
+        storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+
+        AddressBook read = (AddressBook) new SqliteAddressBookStorage(filePath, YearMonth.of(2000, 1))
+                .readAddressBook().get();
+        assertTrue(read.getUnloadedBookingMonths().isEmpty());
+        assertEquals(4, read.getBookingList().size());
+        assertTrue(read.hasBooking(added.getBookingId()));
+    }
+
+    @Test
+    public void saveAddressBook_bookingOfLoadedMonthRemoved_deleted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.db");
+        new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH).saveAddressBook(getAddressBookWithBookings());
+
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.loadAllBookings();
+        Booking completed = addressBook.getBookingList().stream()
+                .filter(booking -> booking.getBookingDateTime().getMonthValue() == 1).findFirst().get();
+        addressBook.removeBooking(completed);
+        storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+
+        AddressBook read = new AddressBook(new SqliteAddressBookStorage(filePath, FIRST_RECENT_MONTH)
+                .readAddressBook().get());
+        assertTrue(read.getUnloadedBookingMonths().isEmpty());
+        read.loadAllBookings();
+        assertEquals(2, read.getBookingList().size());
+        assertFalse(read.hasBooking(completed.getBookingId()));
+    }
+
+    @Test
+    public void importAndExportJson_roundTrip_sameAddressBook() throws Exception {
+        AddressBook original = getAddressBookWithBookings();
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        SqliteAddressBookStorage storage = new SqliteAddressBookStorage(testFolder.resolve("addressBook.db"),
+                FIRST_RECENT_MONTH);
+        assertTrue(storage.importFromJson(jsonFilePath));
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        assertTrue(storage.exportToJson(exportedFilePath));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportedFilePath).readAddressBook().get()));
+        assertFalse(storage.importFromJson(testFolder.resolve("missing.json")));
+        assertTrue(Files.exists(testFolder.resolve("addressBook.db")));
+    }
+
+    /**
+     * Returns an address book whose first person holds a completed booking and an upcoming one in early 2024,
+     * and an upcoming booking in October 2025.
+     */
+    private static AddressBook getAddressBookWithBookings() {
+        Booking completed = new BookingBuilder().withBookingDateTime("2024-01-10T19:00").withStatus("COMPLETED")
+                .withRemarks("window seat, \"quiet\"").build();
+        Booking upcoming = new BookingBuilder().withBookingDateTime("2024-02-10T19:00").build();
+        Booking recent = new BookingBuilder().withBookingDateTime("2025-10-10T19:00")
+                .withBookingMadeDateTime("2025-01-01T10:15:30.123456789").build();
+        Person alice = new PersonBuilder(ALICE).withTags("friends", "vip").build();
+        alice.addBookingID(completed.getBookingId());
+        alice.addBookingID(upcoming.getBookingId());
+        alice.addBookingID(recent.getBookingId());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(new PersonBuilder(BENSON).build());
+        addressBook.addBooking(completed);
+        addressBook.addBooking(upcoming);
+        addressBook.addBooking(recent);
+        return addressBook;
+    }
+}
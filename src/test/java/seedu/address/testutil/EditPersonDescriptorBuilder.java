@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.EditPersonCommand.EditPersonDescriptor;
+import seedu.address.model.booking.BookingIdSet;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -83,11 +84,11 @@ public class EditPersonDescriptorBuilder {
     }
 
     /**
-     * Parses the {@code bookingIDs} into a {@code Set<Integer>} and set it to the {@code EditPersonDescriptor}
+     * Parses the {@code bookingIDs} into a {@code BookingIdSet} and set it to the {@code EditPersonDescriptor}
      * that we are building.
      */
     public EditPersonDescriptorBuilder withBookingIDs(String... bookingIDs) {
-        Set<Integer> bookingIDsSet = Stream.of(bookingIDs).map(Integer::valueOf).collect(Collectors.toSet());
+        BookingIdSet bookingIDsSet = BookingIdSet.of(Stream.of(bookingIDs).mapToInt(Integer::parseInt).toArray());
         descriptor.setBookingIDs(bookingIDsSet);
         return this;
     }
@@ -3,6 +3,7 @@ package seedu.address.testutil;
 import java.util.HashSet;
 import java.util.Set;
 
+import seedu.address.model.booking.BookingIdSet;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -27,7 +28,7 @@ public class PersonBuilder {
     private Address address;
     private Set<Tag> tags;
     private boolean isMember;
-    private Set<Integer> bookingIDs;
+    private BookingIdSet bookingIDs;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -39,7 +40,7 @@ public class PersonBuilder {
         address = new Address(DEFAULT_ADDRESS);
         tags = new HashSet<>();
         isMember = false;
-        bookingIDs = new HashSet<>();
+        bookingIDs = new BookingIdSet();
     }
 
     /**
@@ -52,7 +53,7 @@ public class PersonBuilder {
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
         isMember = personToCopy.getMemberStatus();
-        bookingIDs = new HashSet<>(personToCopy.getBookingIDs());
+        bookingIDs = new BookingIdSet(personToCopy.getBookingIDs());
     }
 
     /**
@@ -106,7 +107,7 @@ public class PersonBuilder {
     /**
      * Sets the {@code BookingIDs} of the {@code Person} that we are building
      */
-    public PersonBuilder withBookingIDs(Set<Integer> bookingIDs) {
+    public PersonBuilder withBookingIDs(BookingIdSet bookingIDs) {
         this.bookingIDs = bookingIDs;
         return this;
     }